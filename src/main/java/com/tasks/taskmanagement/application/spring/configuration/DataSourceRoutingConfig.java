@@ -0,0 +1,82 @@
+package com.tasks.taskmanagement.application.spring.configuration;
+
+import com.tasks.taskmanagement.infrastructure.persistence.routing.ReadWriteRoutingDataSource;
+import com.tasks.taskmanagement.infrastructure.persistence.routing.ReadYourWritesFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The DataSourceRoutingConfig class is a Spring configuration class that replaces the single data source
+ * with one routing read-only transactions to the read replicas and everything else to the primary.
+ * It is enabled with "tasks.datasource.routing.enabled=true"; the primary is configured with the usual
+ * "spring.datasource" properties and the replicas with "tasks.datasource.replica-urls".
+ * The reads of a client that just wrote stay on the primary, tracked across its requests by a cookie.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "tasks.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Create the routing data source over the primary and the replicas.
+     *
+     * @param properties      The "spring.datasource" properties of the primary.
+     * @param replicaUrls     The JDBC URLs of the read replicas.
+     * @param lagTolerance    How long after a write the reads keep going to the primary.
+     * @param migrateReplicas Whether to apply the migrations to the replicas, for local setups without replication.
+     * @param locations       The locations of the migrations.
+     * @return The routing data source, wrapped to fetch connections once the transaction is known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties,
+                                 @Value("${tasks.datasource.replica-urls:}") List<String> replicaUrls,
+                                 @Value("${tasks.datasource.replica-lag-tolerance:PT1S}") Duration lagTolerance,
+                                 @Value("${tasks.datasource.migrate-replicas:false}") boolean migrateReplicas,
+                                 @Value("${spring.flyway.locations:classpath:db/migration}") String[] locations) {
+        DataSource primary = properties.initializeDataSourceBuilder().build();
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            DataSource replica = DataSourceBuilder.create()
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            if (migrateReplicas) {
+                Flyway.configure().dataSource(replica).locations(locations).load().migrate();
+            }
+            replicas.add(replica);
+        }
+        log.info("Routing read-only transactions to {} replicas with a lag tolerance of {}", replicas.size(), lagTolerance);
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replicas, lagTolerance));
+    }
+
+    /**
+     * Create the filter binding the read-your-writes session of the client of each request.
+     *
+     * @param lagTolerance How long after a write the reads of the writing client keep going to the primary.
+     * @return The filter.
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${tasks.datasource.replica-lag-tolerance:PT1S}") Duration lagTolerance) {
+        return new ReadYourWritesFilter(lagTolerance);
+    }
+}
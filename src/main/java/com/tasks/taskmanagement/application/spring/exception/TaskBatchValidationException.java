@@ -0,0 +1,29 @@
+package com.tasks.taskmanagement.application.spring.exception;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskRejection;
+
+import java.util.List;
+
+/**
+ * The TaskBatchValidationException class is a TaskValidationException for a batch of tasks.
+ * It holds the errors of every rejected task of the batch, not only the first one.
+ */
+public class TaskBatchValidationException extends TaskValidationException {
+
+    private final transient List<TaskRejection> rejections;
+
+    /**
+     * Constructs a new TaskBatchValidationException with the rejected tasks of a batch.
+     *
+     * @param rejections The tasks rejected by the validators, by position in the batch.
+     * @param batchSize  The number of tasks in the batch.
+     */
+    public TaskBatchValidationException(List<TaskRejection> rejections, int batchSize) {
+        super(rejections.size() + " of " + batchSize + " tasks failed validation");
+        this.rejections = List.copyOf(rejections);
+    }
+
+    public List<TaskRejection> getRejections() {
+        return rejections;
+    }
+}
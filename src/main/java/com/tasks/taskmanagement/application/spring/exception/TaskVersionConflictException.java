@@ -0,0 +1,17 @@
+package com.tasks.taskmanagement.application.spring.exception;
+
+/**
+ * The TaskVersionConflictException class is a custom exception that extends the RuntimeException class.
+ * It is used to indicate that a task no longer has the version a client based its change on.
+ */
+public class TaskVersionConflictException extends RuntimeException {
+
+    /**
+     * Constructs a new TaskVersionConflictException with the specified error message.
+     *
+     * @param message The error message that describes the conflict.
+     */
+    public TaskVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,29 +1,63 @@
 package com.tasks.taskmanagement.application.spring.service;
 
+import com.tasks.taskmanagement.application.spring.exception.TaskBatchValidationException;
+import com.tasks.taskmanagement.application.spring.exception.TaskValidationException;
+import com.tasks.taskmanagement.application.spring.exception.TaskVersionConflictException;
 import com.tasks.taskmanagement.application.spring.service.statusupdate.TaskStatusUpdater;
 import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.entity.TaskImpl;
+import com.tasks.taskmanagement.domain.event.TaskChangedEvent;
 import com.tasks.taskmanagement.domain.repository.TaskRepository;
 import com.tasks.taskmanagement.domain.service.TaskService;
 import com.tasks.taskmanagement.domain.strategy.StatusUpdateStrategy;
 import com.tasks.taskmanagement.domain.validator.TaskValidator;
 import com.tasks.taskmanagement.domain.valueobject.IPage;
 import com.tasks.taskmanagement.domain.valueobject.IPageable;
+import com.tasks.taskmanagement.domain.valueobject.IdRange;
+import com.tasks.taskmanagement.domain.valueobject.TaskDeadline;
+import com.tasks.taskmanagement.domain.valueobject.TaskDeletion;
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+import com.tasks.taskmanagement.domain.valueobject.TaskOperation;
+import com.tasks.taskmanagement.domain.valueobject.TaskOperationResult;
+import com.tasks.taskmanagement.domain.valueobject.TaskOperationResult.Outcome;
+import com.tasks.taskmanagement.domain.valueobject.TaskRejection;
+import com.tasks.taskmanagement.domain.valueobject.TaskState;
 import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransitionChunk;
+import com.tasks.taskmanagement.infrastructure.persistence.outbox.TaskOutbox;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 /**
  * The TaskServiceImpl class is the implementation of the TaskService interface.
  * It provides methods for managing tasks, including create, update, delete, and retrieve operations.
+ * Every change is announced with a {@link TaskChangedEvent}, and every status transition is recorded
+ * in the {@link TaskOutbox} within the transaction of the write.
+ * Lookups run in read-only transactions, so Hibernate neither snapshots the loaded tasks nor flushes them.
  */
 @Service
 public class TaskServiceImpl implements TaskService {
@@ -32,16 +66,35 @@ public class TaskServiceImpl implements TaskService {
     private final TaskValidator compositForDeleteTaskValidator;
     private final StatusUpdateStrategy statusUpdateStrategy;
     private final TaskValidator compositForSave;
+    private final TaskValidator compositNotDoneNotPassDue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskOutbox taskOutbox;
+    private final int deleteChunkSize;
+    private final ForkJoinPool validationPool;
+    private final int parallelValidationThreshold;
 
     @Autowired
     public TaskServiceImpl(TaskRepository taskRepository,
                            @Qualifier("compositForDeleteTaskValidator") TaskValidator compositForDeleteTaskValidator,
                            @Qualifier("compositForSave") TaskValidator compositForSave,
-                           StatusUpdateStrategy statusUpdateStrategy) {
+                           @Qualifier("compositNotDoneNotPassDue") TaskValidator compositNotDoneNotPassDue,
+                           StatusUpdateStrategy statusUpdateStrategy,
+                           ApplicationEventPublisher eventPublisher,
+                           TaskOutbox taskOutbox,
+                           @Value("${tasks.delete.chunk-size:1000}") int deleteChunkSize,
+                           @Value("${tasks.validation.parallelism:0}") int validationParallelism,
+                           @Value("${tasks.validation.parallel-threshold:1000}") int parallelValidationThreshold) {
         this.taskRepository = taskRepository;
         this.compositForDeleteTaskValidator = compositForDeleteTaskValidator;
         this.statusUpdateStrategy = statusUpdateStrategy;
         this.compositForSave = compositForSave;
+        this.compositNotDoneNotPassDue = compositNotDoneNotPassDue;
+        this.eventPublisher = eventPublisher;
+        this.taskOutbox = taskOutbox;
+        this.deleteChunkSize = deleteChunkSize;
+        this.validationPool = new ForkJoinPool(validationParallelism > 0
+                ? validationParallelism : Runtime.getRuntime().availableProcessors());
+        this.parallelValidationThreshold = parallelValidationThreshold;
     }
 
     /**
@@ -51,19 +104,112 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public void delete(Task task) {
-        Task taskFromDB = this.findById(task.getId()).orElseThrow(
-                () -> new EntityNotFoundException("Task not found with ID: " + task.getId())
-        );
-        compositForDeleteTaskValidator.validate(taskFromDB);
-        taskRepository.delete(task);
+        deleteById(task.getId());
+    }
+
+    /**
+     * Delete a task by its ID.
+     *
+     * @param id The ID of the task to delete.
+     */
+    @Override
+    public void deleteById(Long id) {
+        deleteById(id, null);
+    }
+
+    /**
+     * Delete a task by its ID with a single statement whose condition applies the delete validators
+     * and the expected version.
+     * Only if nothing was deleted is the state of the task read, to tell a missing, modified or rejected task apart.
+     *
+     * @param id              The ID of the task to delete.
+     * @param expectedVersion The version the task must have, or null to delete any version.
+     */
+    @Override
+    public void deleteById(Long id, Long expectedVersion) {
+        Set<TaskStatus> statuses = deletableStatuses();
+        if (taskRepository.deleteByIdAndStatusIn(id, statuses, expectedVersion) == 0) {
+            TaskState state = taskRepository.findStateById(id).orElseThrow(
+                    () -> new EntityNotFoundException("Task not found with ID: " + id)
+            );
+            Task task = taskRepository.newEntity();
+            task.setId(id);
+            task.setVersion(state.version());
+            task.setStatus(state.status());
+            compositForDeleteTaskValidator.validate(task);
+            if (expectedVersion != null && !expectedVersion.equals(state.version())) {
+                throw new TaskVersionConflictException("Task " + id + " has version " + state.version()
+                        + ", not the expected version " + expectedVersion);
+            }
+            // The task became deletable in the meantime: delete the version that was just validated
+            if (taskRepository.deleteByIdAndStatusIn(id, statuses, state.version()) == 0) {
+                throw new TaskVersionConflictException("Task " + id + " was modified concurrently");
+            }
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(List.of(id)));
     }
 
     /**
      * Delete all tasks.
+     *
+     * @return The number of deleted tasks.
+     */
+    @Override
+    public long deleteAll() {
+        long deleted = taskRepository.deleteAll();
+        eventPublisher.publishEvent(TaskChangedEvent.deletedAll());
+        return deleted;
+    }
+
+    /**
+     * Delete the tasks matching a filter in chunks, each in a transaction of its own.
+     * The statuses rejected by the delete validators are excluded in the query itself.
+     *
+     * @param filter The filter selecting the tasks.
+     * @return The number of deleted tasks.
+     */
+    @Override
+    public long deleteAll(TaskFilter filter) {
+        Set<TaskStatus> statuses = deletableStatuses();
+        if (filter.status() != null) {
+            statuses.retainAll(Set.of(filter.status()));
+        }
+        if (statuses.isEmpty()) {
+            return 0;
+        }
+        long deleted = 0;
+        TaskDeletion chunk = taskRepository.deleteChunk(filter, statuses, deleteChunkSize);
+        while (!chunk.isEmpty()) {
+            deleted += chunk.deleted();
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(chunk.candidateIds()));
+            chunk = taskRepository.deleteChunk(filter, statuses, deleteChunkSize);
+        }
+        return deleted;
+    }
+
+    /**
+     * Pass every task matching a filter to an action, in ID order, within a single read-only transaction
+     * holding the database cursor.
+     *
+     * @param filter The filter selecting the tasks.
+     * @param action The action to apply to each task.
+     * @return The number of tasks passed to the action.
      */
+    @Transactional(readOnly = true)
     @Override
-    public void deleteAll() {
-        taskRepository.deleteAll();
+    public long forEach(TaskFilter filter, Consumer<Task> action) {
+        return taskRepository.forEach(filter, action);
+    }
+
+    /**
+     * Get the statuses a task may have to be deleted, as the complement of those rejected by the delete validators.
+     *
+     * @return The deletable statuses.
+     */
+    private Set<TaskStatus> deletableStatuses() {
+        Set<TaskStatus> statuses = EnumSet.allOf(TaskStatus.class);
+        statuses.removeAll(compositForDeleteTaskValidator.getRejectedStatuses());
+        return statuses;
     }
 
     /**
@@ -73,6 +219,7 @@ public class TaskServiceImpl implements TaskService {
      * @return A paginated list of tasks.
      */
     @Override
+    @Transactional(readOnly = true)
     public IPage<Task> findAll(IPageable pageable) {
         return taskRepository.findAll(pageable);
     }
@@ -84,7 +231,7 @@ public class TaskServiceImpl implements TaskService {
      * @return The task with the given ID.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Optional<Task> findById(Long id) {
         return taskRepository.findById(id);
     }
@@ -99,18 +246,289 @@ public class TaskServiceImpl implements TaskService {
     @Override
     public Task save(Task task) {
         compositForSave.validate(task);
-        return taskRepository.save(task);
+        TaskStatus previousStatus = previousStatus(task);
+        Task saved = taskRepository.save(task);
+        taskOutbox.append(saved.getId(), previousStatus, saved.getStatus());
+        eventPublisher.publishEvent(TaskChangedEvent.saved(List.of(saved), Collections.singletonList(previousStatus)));
+        return saved;
+    }
+
+    /**
+     * Update a task in a single transaction.
+     * The task is loaded as a managed entity and changed in place, so the commit flushes a single UPDATE
+     * of the changed columns, without the extra SELECT a merge of a detached task costs.
+     * When no field changed, nothing is saved, so the version and the cached copies stay as they are.
+     *
+     * @param id              The ID of the task to update.
+     * @param expectedVersion The version the task must have, or null to update any version.
+     * @param mutator         The changes to apply to the task, returning the names of the changed fields.
+     * @return The updated task.
+     */
+    @Transactional
+    @Override
+    public Task update(Long id, Long expectedVersion, Function<Task, Set<String>> mutator) {
+        Task task = taskRepository.findById(id).orElseThrow(
+                () -> new EntityNotFoundException("Task not found with ID: " + id)
+        );
+        // A task that can't be updated is rejected as such, rather than with a conflict inviting a retry
+        compositNotDoneNotPassDue.validate(task);
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new TaskVersionConflictException("Task " + id + " has version " + task.getVersion()
+                    + ", not the expected version " + expectedVersion);
+        }
+        TaskStatus previousStatus = task.getStatus();
+        if (mutator.apply(task).isEmpty()) {
+            return task;
+        }
+        compositForSave.validate(task);
+        Task saved = taskRepository.save(task);
+        taskOutbox.append(saved.getId(), previousStatus, saved.getStatus());
+        eventPublisher.publishEvent(TaskChangedEvent.saved(List.of(saved), Collections.singletonList(previousStatus)));
+        return saved;
     }
 
     /**
-     * Save a list of tasks.
+     * Save a list of tasks in a single transaction, as a pipeline of stages:
+     * the save validators run over all tasks at once, in parallel for large batches, then the previous statuses
+     * are read with IN queries and the tasks are written in JDBC batches.
+     * Nothing is saved if any task is rejected.
      *
      * @param tasks The list of tasks to be saved.
      * @return The saved tasks.
+     * @throws TaskBatchValidationException with the errors of all rejected tasks.
      */
+    @Transactional
     @Override
     public List<Task> saveAll(Iterable<Task> tasks) {
-        return taskRepository.saveAll(tasks);
+        List<Task> toSave = new ArrayList<>();
+        tasks.forEach(toSave::add);
+        List<TaskRejection> rejections = validateAll(toSave);
+        if (!rejections.isEmpty()) {
+            throw new TaskBatchValidationException(rejections, toSave.size());
+        }
+        return persistAll(toSave);
+    }
+
+    /**
+     * Validate a batch of tasks with the save validators and save those passing, in a single transaction.
+     * A rejected task does not stop the batch: its error is returned along with those of the other rejected tasks.
+     *
+     * @param tasks The tasks to be saved.
+     * @return The tasks rejected by the validators, by position in the batch.
+     */
+    @Transactional
+    @Override
+    public List<TaskRejection> saveAllValid(List<Task> tasks) {
+        List<TaskRejection> rejections = validateAll(tasks);
+        List<Task> valid = new ArrayList<>(tasks.size() - rejections.size());
+        int next = 0;
+        for (TaskRejection rejection : rejections) {
+            valid.addAll(tasks.subList(next, rejection.index()));
+            next = rejection.index() + 1;
+        }
+        valid.addAll(tasks.subList(next, tasks.size()));
+        if (!valid.isEmpty()) {
+            persistAll(valid);
+        }
+        return rejections;
+    }
+
+    /**
+     * Execute a batch of create, patch and delete operations in a single transaction.
+     * The referenced tasks are loaded with IN queries, then every operation is checked against the same validators
+     * as its single counterpart, patches being tried on copies, so nothing changes before the batch is known to apply.
+     * An all-or-nothing batch stops there if any operation failed. Otherwise the operations that passed are applied
+     * and flushed together, in JDBC batches. A task may only be referenced by one operation of a batch.
+     *
+     * @param operations The operations, in order.
+     * @param atomic     Whether the batch is all-or-nothing.
+     * @return The result of each operation, in the same order.
+     */
+    @Transactional
+    @Override
+    public List<TaskOperationResult> executeAll(List<TaskOperation> operations, boolean atomic) {
+        Map<Long, Task> tasksById = new HashMap<>();
+        List<Long> ids = operations.stream().map(TaskOperation::taskId).filter(Objects::nonNull).distinct().toList();
+        if (!ids.isEmpty()) {
+            taskRepository.findAllByIds(ids).forEach(task -> tasksById.put(task.getId(), task));
+        }
+
+        TaskOperationResult[] results = new TaskOperationResult[operations.size()];
+        Task[] created = new Task[operations.size()];
+        Set<Long> referencedIds = new HashSet<>();
+        boolean failed = false;
+        for (int i = 0; i < operations.size(); i++) {
+            results[i] = check(i, operations.get(i), tasksById, referencedIds, created);
+            failed |= results[i].outcome().isFailure();
+        }
+        if (atomic && failed) {
+            for (int i = 0; i < results.length; i++) {
+                if (!results[i].outcome().isFailure()) {
+                    results[i] = TaskOperationResult.failed(i, Outcome.ABORTED, results[i].taskId(),
+                            "Another operation of the batch failed");
+                }
+            }
+            return List.of(results);
+        }
+
+        List<Task> toSave = new ArrayList<>();
+        List<TaskStatus> previousStatuses = new ArrayList<>();
+        List<Integer> savedIndexes = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            TaskOperationResult result = results[i];
+            switch (result.outcome()) {
+                case CREATED -> {
+                    toSave.add(created[i]);
+                    previousStatuses.add(null);
+                    savedIndexes.add(i);
+                }
+                case UPDATED -> {
+                    Task task = tasksById.get(result.taskId());
+                    previousStatuses.add(task.getStatus());
+                    operations.get(i).mutator().apply(task);
+                    toSave.add(task);
+                    savedIndexes.add(i);
+                }
+                case DELETED -> {
+                    taskRepository.delete(tasksById.get(result.taskId()));
+                    deletedIds.add(result.taskId());
+                }
+                default -> {
+                }
+            }
+        }
+        List<Task> saved = toSave.isEmpty() ? List.of() : taskRepository.saveAll(toSave);
+        for (int j = 0; j < saved.size(); j++) {
+            int index = savedIndexes.get(j);
+            results[index] = TaskOperationResult.applied(index, results[index].outcome(), saved.get(j).getId(), saved.get(j));
+        }
+        taskOutbox.appendAll(saved, previousStatuses);
+        if (!saved.isEmpty()) {
+            eventPublisher.publishEvent(TaskChangedEvent.saved(saved, previousStatuses));
+        }
+        if (!deletedIds.isEmpty()) {
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(deletedIds));
+        }
+        return List.of(results);
+    }
+
+    /**
+     * Check one operation of a batch without changing the loaded tasks.
+     *
+     * @param index         The position of the operation in the batch.
+     * @param operation     The operation.
+     * @param tasksById     The tasks referenced by the batch.
+     * @param referencedIds The IDs referenced by the previous operations, to which the ID of this one is added.
+     * @param created       The new tasks of the batch, to which the task of a valid create is added.
+     * @return The result the operation has if the batch is applied.
+     */
+    private TaskOperationResult check(int index, TaskOperation operation, Map<Long, Task> tasksById,
+                                      Set<Long> referencedIds, Task[] created) {
+        Long id = operation.taskId();
+        try {
+            if (operation.type() == TaskOperation.Type.CREATE) {
+                Task task = taskRepository.newEntity();
+                operation.mutator().apply(task);
+                compositForSave.validate(task);
+                created[index] = task;
+                return TaskOperationResult.applied(index, Outcome.CREATED, null, task);
+            }
+            if (id == null) {
+                return TaskOperationResult.failed(index, Outcome.REJECTED, null, "The operation has no task ID");
+            }
+            if (!referencedIds.add(id)) {
+                return TaskOperationResult.failed(index, Outcome.REJECTED, id,
+                        "Task " + id + " is referenced by an earlier operation of the batch");
+            }
+            Task task = tasksById.get(id);
+            if (task == null) {
+                return TaskOperationResult.failed(index, Outcome.NOT_FOUND, id, "Task not found with ID: " + id);
+            }
+            if (operation.expectedVersion() != null && !operation.expectedVersion().equals(task.getVersion())) {
+                return TaskOperationResult.failed(index, Outcome.CONFLICT, id, "Task " + id + " has version "
+                        + task.getVersion() + ", not the expected version " + operation.expectedVersion());
+            }
+            if (operation.type() == TaskOperation.Type.DELETE) {
+                compositForDeleteTaskValidator.validate(task);
+                return TaskOperationResult.applied(index, Outcome.DELETED, id, null);
+            }
+            compositNotDoneNotPassDue.validate(task);
+            Task copy = copyOf(task);
+            if (operation.mutator().apply(copy).isEmpty()) {
+                return TaskOperationResult.applied(index, Outcome.UNCHANGED, id, task);
+            }
+            compositForSave.validate(copy);
+            return TaskOperationResult.applied(index, Outcome.UPDATED, id, null);
+        } catch (TaskValidationException ex) {
+            return TaskOperationResult.failed(index, Outcome.REJECTED, id, ex.getMessage());
+        }
+    }
+
+    private static Task copyOf(Task task) {
+        Task copy = new TaskImpl(task.getDescription(), task.getCreationDateTime());
+        copy.setId(task.getId());
+        copy.setVersion(task.getVersion());
+        copy.setStatus(task.getStatus());
+        copy.setDueDateTime(task.getDueDateTime());
+        copy.setCompletionDateTime(task.getCompletionDateTime());
+        return copy;
+    }
+
+    /**
+     * Run the save validators over every task of a batch, on the validation pool if the batch is large enough
+     * to pay for the hand-off. The validators only read the task they are given, so tasks are checked independently.
+     *
+     * @param tasks The tasks to validate.
+     * @return The rejected tasks, in the order of the batch.
+     */
+    private List<TaskRejection> validateAll(List<Task> tasks) {
+        if (tasks.size() < parallelValidationThreshold) {
+            return IntStream.range(0, tasks.size()).mapToObj(i -> validate(i, tasks.get(i)))
+                    .filter(Objects::nonNull).toList();
+        }
+        return validationPool.submit(() -> IntStream.range(0, tasks.size()).parallel()
+                .mapToObj(i -> validate(i, tasks.get(i)))
+                .filter(Objects::nonNull).toList()).join();
+    }
+
+    private TaskRejection validate(int index, Task task) {
+        try {
+            compositForSave.validate(task);
+            return null;
+        } catch (TaskValidationException ex) {
+            return new TaskRejection(index, ex.getMessage());
+        }
+    }
+
+    /**
+     * Write validated tasks, recording the transitions of their statuses in the outbox.
+     *
+     * @param tasks The tasks to write.
+     * @return The saved tasks.
+     */
+    private List<Task> persistAll(List<Task> tasks) {
+        List<Long> ids = tasks.stream().map(Task::getId).filter(Objects::nonNull).toList();
+        Map<Long, TaskStatus> statusesById = new HashMap<>();
+        if (!ids.isEmpty()) {
+            taskRepository.findStatesByIds(ids).forEach(state -> statusesById.put(state.id(), state.status()));
+        }
+        List<TaskStatus> previousStatuses = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            previousStatuses.add(task.getId() != null ? statusesById.get(task.getId()) : null);
+        }
+        List<Task> saved = taskRepository.saveAll(tasks);
+        taskOutbox.appendAll(saved, previousStatuses);
+        eventPublisher.publishEvent(TaskChangedEvent.saved(saved, previousStatuses));
+        return saved;
+    }
+
+    /**
+     * Stop the validation pool when the application context is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        validationPool.shutdownNow();
     }
 
     /**
@@ -131,6 +549,7 @@ public class TaskServiceImpl implements TaskService {
      * @return A paginated list of tasks filtered by status.
      */
     @Override
+    @Transactional(readOnly = true)
     public IPage<Task> findByStatus(IPageable pageable, TaskStatus status) {
         return taskRepository.findByStatus(pageable, status);
     }
@@ -150,14 +569,169 @@ public class TaskServiceImpl implements TaskService {
 
 
     /**
-     * Updates the status of tasks that meet the specified criteria.
+     * Finds the range of IDs of the tasks with the specified status and due date-time before a given time.
+     *
+     * @param status           Status filter.
+     * @param currentTimestamp The timestamp used for comparison with the dueDateTime field of tasks.
+     * @return The range of IDs of the matching tasks, empty if there are none.
+     */
+    @Override
+    public IdRange findIdRangeByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime currentTimestamp) {
+        return taskRepository.findIdRangeByStatusAndDueDateTimeBefore(status, currentTimestamp);
+    }
+
+    /**
+     * Updates the status of tasks that meet the specified criteria within a range of IDs,
+     * in a short transaction of its own.
+     *
+     * @param oldStatus        The old status of tasks to be updated.
+     * @param newStatus        The new status to set for the tasks.
+     * @param currentTimestamp The timestamp used for comparison with the dueDateTime field of tasks.
+     * @param idRange          The range of IDs to update.
+     * @return The number of updated tasks.
+     */
+    @Transactional
+    @Override
+    public int updateStatusForDueDateTimeAndOldStatus(TaskStatus oldStatus,
+                                                      TaskStatus newStatus,
+                                                      LocalDateTime currentTimestamp,
+                                                      IdRange idRange) {
+        if (idRange.isEmpty()) {
+            return 0;
+        }
+        List<TaskState> locked = taskRepository.lockStates(new TaskFilter(null, null, currentTimestamp),
+                Set.of(oldStatus), idRange.fromId(), idRange.toId(), Integer.MAX_VALUE);
+        return moveLocked(locked, newStatus, null, currentTimestamp);
+    }
+
+    /**
+     * Finds the deadlines of the tasks with the specified status and due date-time before a given time.
+     *
+     * @param status Status filter.
+     * @param until  The time the due date-time of the tasks must be before.
+     * @return The IDs and due date-times of the matching tasks.
+     */
+    @Override
+    public List<TaskDeadline> findDeadlinesByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime until) {
+        return taskRepository.findDeadlinesByStatusAndDueDateTimeBefore(status, until);
+    }
+
+    /**
+     * Updates the status of the given tasks if they still meet the specified criteria.
      *
      * @param oldStatus        The old status of tasks to be updated.
      * @param newStatus        The new status to set for the tasks.
      * @param currentTimestamp The timestamp used for comparison with the dueDateTime field of tasks.
+     * @param ids              The IDs of the tasks to update.
+     * @return The number of updated tasks.
      */
+    @Transactional
+    @Override
+    public int updateStatusForDueDateTimeAndOldStatus(TaskStatus oldStatus,
+                                                      TaskStatus newStatus,
+                                                      LocalDateTime currentTimestamp,
+                                                      Collection<Long> ids) {
+        List<TaskState> locked = taskRepository.lockStatesByIds(ids, new TaskFilter(null, null, currentTimestamp),
+                Set.of(oldStatus));
+        return moveLocked(locked, newStatus, null, currentTimestamp);
+    }
+
+    /**
+     * Count the tasks matching a filter that a transition to a status would move.
+     *
+     * @param filter    The filter selecting the tasks.
+     * @param newStatus The status to move the tasks to.
+     * @return The number of tasks the transition would move.
+     * @throws TaskValidationException if no task matching the filter may be moved to the status.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public long countForTransition(TaskFilter filter, TaskStatus newStatus) {
+        Set<TaskStatus> statuses = transitionStatuses(filter, newStatus);
+        if (statuses.isEmpty()) {
+            throw new TaskValidationException("No task matching the filter can be moved to " + newStatus);
+        }
+        return taskRepository.count(transitionFilter(filter, newStatus, LocalDateTime.now()), statuses);
+    }
+
+    /**
+     * Move one chunk of the tasks matching a filter to a status with a single UPDATE, in a transaction of its own.
+     * The validators are applied as predicates: the update validators by excluding the statuses they reject,
+     * and the save validators by only moving tasks whose due date-time passed to PAST_DUE,
+     * and by completing the tasks moved to DONE now.
+     *
+     * @param filter    The filter selecting the tasks.
+     * @param newStatus The status to move the tasks to.
+     * @param afterId   The ID after which the chunk starts.
+     * @param chunkSize The maximum number of tasks to move.
+     * @return The selected IDs and the number of moved tasks; no selected IDs once nothing matches any more.
+     */
+    @Transactional
     @Override
-    public void updateStatusForDueDateTimeAndOldStatus(TaskStatus oldStatus, TaskStatus newStatus, LocalDateTime currentTimestamp) {
-        taskRepository.updateStatusForDueDateTimeAndOldStatus(oldStatus,newStatus,currentTimestamp);
+    public TaskTransitionChunk transitionChunk(TaskFilter filter, TaskStatus newStatus, long afterId, int chunkSize) {
+        Set<TaskStatus> statuses = transitionStatuses(filter, newStatus);
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskState> locked = statuses.isEmpty() ? List.of() : taskRepository.lockStates(
+                transitionFilter(filter, newStatus, now), statuses, afterId + 1, Long.MAX_VALUE, chunkSize);
+        int updated = moveLocked(locked, newStatus, newStatus == TaskStatus.DONE ? now : null, now);
+        return new TaskTransitionChunk(locked.stream().map(TaskState::id).toList(), updated);
+    }
+
+    /**
+     * Record the transitions of tasks locked by the current transaction and move exactly these tasks to a status,
+     * so the outbox holds the transitions that were made, whatever the concurrent writes.
+     */
+    private int moveLocked(List<TaskState> locked,
+                           TaskStatus newStatus,
+                           LocalDateTime completionDateTime,
+                           LocalDateTime timestamp) {
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        Set<TaskStatus> oldStatuses = EnumSet.noneOf(TaskStatus.class);
+        locked.forEach(state -> oldStatuses.add(state.status()));
+        taskOutbox.appendLocked(locked, newStatus);
+        int updated = taskRepository.updateStatus(locked.stream().map(TaskState::id).toList(), oldStatuses, newStatus,
+                completionDateTime);
+        oldStatuses.forEach(oldStatus -> eventPublisher.publishEvent(TaskChangedEvent.statusUpdated(oldStatus, newStatus, timestamp)));
+        return updated;
+    }
+
+    /**
+     * Get the statuses a transition may move tasks from: those the update validators accept, other than the new
+     * status, and only the status of the filter if it has one.
+     */
+    private Set<TaskStatus> transitionStatuses(TaskFilter filter, TaskStatus newStatus) {
+        Set<TaskStatus> statuses = EnumSet.allOf(TaskStatus.class);
+        statuses.removeAll(compositNotDoneNotPassDue.getRejectedStatuses());
+        statuses.remove(newStatus);
+        if (filter.status() != null) {
+            statuses.retainAll(Set.of(filter.status()));
+        }
+        return statuses;
+    }
+
+    /**
+     * Narrow a filter to the tasks the save validators accept with the new status:
+     * a task may only be PAST_DUE once its due date-time passed.
+     */
+    private static TaskFilter transitionFilter(TaskFilter filter, TaskStatus newStatus, LocalDateTime now) {
+        if (newStatus == TaskStatus.PAST_DUE && (filter.dueTo() == null || filter.dueTo().isAfter(now))) {
+            return new TaskFilter(filter.status(), filter.dueFrom(), now);
+        }
+        return filter;
+    }
+
+    /**
+     * Read the stored status of a task about to be saved.
+     *
+     * @param task The task about to be saved.
+     * @return The stored status, or null for a new task.
+     */
+    private TaskStatus previousStatus(Task task) {
+        if (task.getId() == null) {
+            return null;
+        }
+        return taskRepository.findStateById(task.getId()).map(TaskState::status).orElse(null);
     }
 }
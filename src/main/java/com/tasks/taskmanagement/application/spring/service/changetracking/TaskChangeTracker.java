@@ -0,0 +1,36 @@
+package com.tasks.taskmanagement.application.spring.service.changetracking;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+
+import java.util.Collection;
+
+/**
+ * The TaskChangeTracker interface defines cheap change counters for the stored tasks,
+ * so that clients polling task lists can be told nothing changed without querying the database.
+ */
+public interface TaskChangeTracker {
+
+    /**
+     * Get the epoch of the counters, which changes whenever they restart from zero.
+     *
+     * @return The epoch of the counters.
+     */
+    long getEpoch();
+
+    /**
+     * Get the change counter of the tasks with a status, or of all tasks.
+     * The counter increases whenever a change may have affected those tasks.
+     *
+     * @param status The status of the tasks, or null for all tasks.
+     * @return The change counter.
+     */
+    long getVersion(TaskStatus status);
+
+    /**
+     * Move the counters of the given statuses, and of all tasks, for a change that no event of this node reported,
+     * such as a write of another node.
+     *
+     * @param statuses The statuses the changed tasks had or have.
+     */
+    void invalidate(Collection<TaskStatus> statuses);
+}
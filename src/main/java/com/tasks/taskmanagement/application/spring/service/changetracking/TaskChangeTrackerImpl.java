@@ -0,0 +1,64 @@
+package com.tasks.taskmanagement.application.spring.service.changetracking;
+
+import com.tasks.taskmanagement.domain.event.TaskChangedEvent;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The TaskChangeTrackerImpl class implements the TaskChangeTracker interface with in-memory counters
+ * fed by the task change events once their transaction has committed.
+ * Bulk status updates only move the counters of their old and new statuses; saves and deletes may
+ * change the status of a task from any status, so they move every counter.
+ * The writes of the other nodes are reported by the TaskInvalidationTailer, when the invalidation log is enabled.
+ */
+@Service
+public class TaskChangeTrackerImpl implements TaskChangeTracker {
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong allTasksVersion = new AtomicLong();
+    private final Map<TaskStatus, AtomicLong> versionsByStatus = new EnumMap<>(TaskStatus.class);
+
+    public TaskChangeTrackerImpl() {
+        for (TaskStatus status : TaskStatus.values()) {
+            versionsByStatus.put(status, new AtomicLong());
+        }
+    }
+
+    @Override
+    public long getEpoch() {
+        return epoch;
+    }
+
+    @Override
+    public long getVersion(TaskStatus status) {
+        return status == null ? allTasksVersion.get() : versionsByStatus.get(status).get();
+    }
+
+    @Override
+    public void invalidate(Collection<TaskStatus> statuses) {
+        statuses.forEach(status -> versionsByStatus.get(status).incrementAndGet());
+        allTasksVersion.incrementAndGet();
+    }
+
+    /**
+     * Move the counters affected by a task change.
+     *
+     * @param event The task change event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getType() == TaskChangedEvent.Type.STATUS_UPDATED) {
+            versionsByStatus.get(event.getOldStatus()).incrementAndGet();
+            versionsByStatus.get(event.getNewStatus()).incrementAndGet();
+        } else {
+            versionsByStatus.values().forEach(AtomicLong::incrementAndGet);
+        }
+        allTasksVersion.incrementAndGet();
+    }
+}
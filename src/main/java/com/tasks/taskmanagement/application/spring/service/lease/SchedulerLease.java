@@ -0,0 +1,16 @@
+package com.tasks.taskmanagement.application.spring.service.lease;
+
+/**
+ * The SchedulerLease interface defines a method for running a scheduled job on a single node of the cluster at a time.
+ */
+public interface SchedulerLease {
+
+    /**
+     * Run a job if this node holds, or can take, the lease of the given name.
+     *
+     * @param name The name of the lease, shared by the nodes running the job.
+     * @param job  The job to run.
+     * @return True if the job was run, false if another node holds the lease.
+     */
+    boolean runExclusively(String name, Runnable job);
+}
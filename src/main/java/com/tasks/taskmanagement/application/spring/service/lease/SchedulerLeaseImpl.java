@@ -0,0 +1,148 @@
+package com.tasks.taskmanagement.application.spring.service.lease;
+
+import com.tasks.taskmanagement.infrastructure.persistence.lease.LeaseRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The SchedulerLeaseImpl class implements the SchedulerLease interface with leases of the shared database.
+ * The owner renews its leases every "tasks.lease.renew-interval", which must be shorter than their time to live,
+ * so it keeps them between the runs of its jobs; when it stops, a lease expires after its time to live
+ * and the next node to run the job takes it over. Leases are released on shutdown for a faster handover.
+ * Each node exposes whether it owns a lease, until its time to live runs out without a renewal,
+ * as the "tasks.lease.owned" gauge and the duration of the jobs it ran as the "tasks.lease.job" timer,
+ * both tagged with the lease name.
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseImpl implements SchedulerLease {
+
+    private final LeaseRepository leaseRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final String owner = UUID.randomUUID().toString();
+    private final Map<String, Ownership> owned = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SchedulerLeaseImpl(LeaseRepository leaseRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${tasks.lease.ttl:PT30S}") Duration ttl,
+                              @Value("${tasks.lease.renew-interval:PT10S}") Duration renewInterval) {
+        this.leaseRepository = leaseRepository;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        if (renewInterval.compareTo(ttl) >= 0) {
+            log.warn("Lease renew interval {} is not shorter than the lease time to live {}, leases will lapse",
+                    renewInterval, ttl);
+        }
+    }
+
+    /**
+     * Run a job if this node holds, or can take, the lease of the given name.
+     * A job running longer than the time to live may overlap with the next owner, so jobs must be idempotent.
+     *
+     * @param name The name of the lease, shared by the nodes running the job.
+     * @param job  The job to run.
+     * @return True if the job was run, false if another node holds the lease.
+     */
+    @Override
+    public boolean runExclusively(String name, Runnable job) {
+        if (!acquire(name)) {
+            return false;
+        }
+        Timer.builder("tasks.lease.job")
+                .description("Duration of the jobs run under a lease")
+                .tag("lease", name)
+                .register(meterRegistry)
+                .record(job);
+        return true;
+    }
+
+    /**
+     * Scheduled method to renew the leases owned by this node, so they do not lapse between the runs of their jobs.
+     */
+    @Scheduled(fixedDelayString = "${tasks.lease.renew-interval:PT10S}")
+    public void renew() {
+        owned.forEach((name, ownership) -> {
+            if (ownership.isHeld()) {
+                acquire(name);
+            }
+        });
+    }
+
+    /**
+     * Release the leases owned by this node when the application context is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        owned.forEach((name, ownership) -> {
+            if (ownership.isHeld()) {
+                try {
+                    leaseRepository.release(name, owner);
+                } catch (RuntimeException ex) {
+                    log.warn("Failed to release lease {}: {}", name, ex.getMessage());
+                }
+            }
+        });
+    }
+
+    private boolean acquire(String name) {
+        Ownership ownership = ownership(name);
+        long requestedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = leaseRepository.tryAcquire(name, owner, ttl);
+        } catch (RuntimeException ex) {
+            log.error("Failed to acquire lease {}: {}", name, ex.getMessage(), ex);
+            acquired = false;
+        }
+        boolean wasHeld = ownership.isHeld();
+        ownership.update(acquired, requestedAt + ttl.toNanos());
+        if (wasHeld != acquired) {
+            log.info("{} lease {} as {}", acquired ? "Acquired" : "Lost", name, owner);
+        }
+        return acquired;
+    }
+
+    private Ownership ownership(String name) {
+        return owned.computeIfAbsent(name, key -> {
+            Ownership ownership = new Ownership();
+            Gauge.builder("tasks.lease.owned", ownership, o -> o.isHeld() ? 1 : 0)
+                    .description("Whether this node owns the lease")
+                    .tag("lease", key)
+                    .register(meterRegistry);
+            return ownership;
+        });
+    }
+
+    /**
+     * Whether this node holds a lease, and until when at the latest, measured from the acquire request
+     * so the local estimate never outlives the expiry recorded in the database.
+     */
+    private static final class Ownership {
+
+        private volatile boolean acquired;
+        private volatile long expiresAtNanos;
+
+        void update(boolean acquired, long expiresAtNanos) {
+            this.expiresAtNanos = expiresAtNanos;
+            this.acquired = acquired;
+        }
+
+        boolean isHeld() {
+            return acquired && System.nanoTime() - expiresAtNanos < 0;
+        }
+    }
+}
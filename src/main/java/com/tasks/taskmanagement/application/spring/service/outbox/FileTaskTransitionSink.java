@@ -0,0 +1,60 @@
+package com.tasks.taskmanagement.application.spring.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * The FileTaskTransitionSink class implements the TaskTransitionSink interface by appending the transitions
+ * to a file, one JSON object per line, for downstream systems to tail instead of polling the task list.
+ * Each batch is forced to disk before it is acknowledged. It is selected with "tasks.outbox.sink=file".
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "file")
+public class FileTaskTransitionSink implements TaskTransitionSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    @Autowired
+    public FileTaskTransitionSink(ObjectMapper objectMapper,
+                                  @Value("${tasks.outbox.file:task-transitions.ndjson}") Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void deliver(List<TaskTransition> transitions) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (TaskTransition transition : transitions) {
+                lines.append(objectMapper.writeValueAsString(transition)).append('\n');
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize task transitions", ex);
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to append task transitions to " + file, ex);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.tasks.taskmanagement.application.spring.service.outbox;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskTransition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The LoggingTaskTransitionSink class implements the TaskTransitionSink interface by logging the transitions.
+ * It is the default sink, selected with "tasks.outbox.sink=log".
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingTaskTransitionSink implements TaskTransitionSink {
+
+    @Override
+    public void deliver(List<TaskTransition> transitions) {
+        transitions.forEach(transition -> log.info("Task {} moved from {} to {} at {}",
+                transition.taskId(), transition.oldStatus(), transition.newStatus(), transition.occurredAt()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.tasks.taskmanagement.application.spring.service.outbox;
+
+/**
+ * The TaskOutboxRelay interface defines a method for relaying the recorded status transitions to the sink.
+ */
+public interface TaskOutboxRelay {
+
+    /**
+     * Deliver the recorded transitions to the sink in batches, and delete each batch once delivered.
+     *
+     * @return The number of relayed transitions.
+     */
+    int drain();
+}
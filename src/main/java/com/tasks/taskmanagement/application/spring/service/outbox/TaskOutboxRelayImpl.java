@@ -0,0 +1,88 @@
+package com.tasks.taskmanagement.application.spring.service.outbox;
+
+import com.tasks.taskmanagement.application.spring.service.lease.SchedulerLease;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransition;
+import com.tasks.taskmanagement.infrastructure.persistence.outbox.TaskOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * The TaskOutboxRelayImpl class implements the TaskOutboxRelay interface.
+ * It drains the outbox under a lease, so a single node relays the transitions, one batch at a time:
+ * memory is bounded by the batch size, and a batch is only deleted once the sink accepted it,
+ * which makes the delivery at-least-once.
+ * The transitions are relayed in the order of their IDs, which are allocated before their transactions commit,
+ * so the transitions of concurrent transactions may be relayed out of commit order. The transitions of a single
+ * task are still relayed in order: a write only commits if it read the task as last committed (version check)
+ * or locked it, so it records its transition after the previous one was committed.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "tasks.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskOutboxRelayImpl implements TaskOutboxRelay {
+
+    public static final String LEASE = "task-outbox-relay";
+
+    private final TaskOutbox taskOutbox;
+    private final TaskTransitionSink sink;
+    private final SchedulerLease schedulerLease;
+    private final int batchSize;
+    private final Counter relayedCounter;
+
+    @Autowired
+    public TaskOutboxRelayImpl(TaskOutbox taskOutbox,
+                               TaskTransitionSink sink,
+                               SchedulerLease schedulerLease,
+                               MeterRegistry meterRegistry,
+                               @Value("${tasks.outbox.batch-size:500}") int batchSize) {
+        this.taskOutbox = taskOutbox;
+        this.sink = sink;
+        this.schedulerLease = schedulerLease;
+        this.batchSize = batchSize;
+        this.relayedCounter = Counter.builder("tasks.outbox.relayed")
+                .description("Task status transitions delivered to the sink")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled method to drain the outbox on the node holding the relay lease.
+     */
+    @Scheduled(fixedDelayString = "${tasks.outbox.poll-interval:PT1S}")
+    public void relay() {
+        schedulerLease.runExclusively(LEASE, this::drain);
+    }
+
+    /**
+     * Deliver the recorded transitions to the sink in batches, and delete each batch once delivered.
+     * A failed batch stays in the outbox and is delivered again by the next run.
+     *
+     * @return The number of relayed transitions.
+     */
+    @Override
+    public synchronized int drain() {
+        int relayed = 0;
+        List<TaskTransition> batch;
+        do {
+            batch = taskOutbox.readBatch(batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            sink.deliver(batch);
+            taskOutbox.delete(batch.stream().map(TaskTransition::id).toList());
+            relayedCounter.increment(batch.size());
+            relayed += batch.size();
+        } while (batch.size() == batchSize);
+        if (relayed > 0) {
+            log.info("Relayed {} task status transitions", relayed);
+        }
+        return relayed;
+    }
+}
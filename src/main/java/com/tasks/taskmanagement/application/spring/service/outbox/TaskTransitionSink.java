@@ -0,0 +1,20 @@
+package com.tasks.taskmanagement.application.spring.service.outbox;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskTransition;
+
+import java.util.List;
+
+/**
+ * The TaskTransitionSink interface defines where the relay delivers the status transitions of the tasks.
+ */
+public interface TaskTransitionSink {
+
+    /**
+     * Deliver a batch of transitions, in the order of their positions.
+     * A batch is delivered again if this method fails, or if the relay stops before the batch is acknowledged,
+     * so a sink may see the same transition more than once.
+     *
+     * @param transitions The transitions to deliver.
+     */
+    void deliver(List<TaskTransition> transitions);
+}
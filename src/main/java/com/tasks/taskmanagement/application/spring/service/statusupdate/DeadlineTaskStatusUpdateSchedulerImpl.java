@@ -0,0 +1,345 @@
+package com.tasks.taskmanagement.application.spring.service.statusupdate;
+
+import com.tasks.taskmanagement.application.spring.service.lease.SchedulerLease;
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.event.TaskChangedEvent;
+import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.TaskDeadline;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The DeadlineTaskStatusUpdateSchedulerImpl class implements the TaskStatusUpdateScheduler interface
+ * with an in-memory deadline queue instead of polling the database.
+ * It keeps the due date-times of the NOT_DONE tasks expiring within a horizon, ordered by deadline,
+ * and sleeps until the earliest one passes. Expired tasks are then moved to PAST_DUE in batches.
+ * The queue is kept current through the task change events of this node, and after a bulk update moved tasks
+ * out of NOT_DONE. Only the node holding the status update lease, shared with the cron scheduler, loads
+ * the deadlines and updates the tasks; the other nodes try to take the lease every "tasks.lease.renew-interval",
+ * and a node that loses it drops its deadlines.
+ * The tasks written on the other nodes raise no event here, so the lease holder reloads the deadlines every
+ * "tasks.lease.renew-interval" (at most every half horizon): a deadline written anywhere is thus tracked
+ * within that interval, and the deadlines entering the horizon are picked up along the way.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "statusupdater.scheduling.type", havingValue = "deadline")
+public class DeadlineTaskStatusUpdateSchedulerImpl implements TaskStatusUpdateScheduler {
+
+    /**
+     * Shared with the cron scheduler, so a single node updates the statuses whatever the mode of each node.
+     */
+    public static final String LEASE = TaskStatusUpdateSchedulerImpl.LEASE;
+
+    private static final Comparator<TaskDeadline> BY_DEADLINE =
+            Comparator.comparing(TaskDeadline::dueDateTime).thenComparing(TaskDeadline::id);
+
+    private final TaskService taskService;
+    private final SchedulerLease schedulerLease;
+    private final Duration horizon;
+    private final Duration leaseCheckInterval;
+    private final Duration reloadInterval;
+    private final int batchSize;
+    private final NavigableSet<TaskDeadline> deadlines = new TreeSet<>(BY_DEADLINE);
+    private final Map<Long, TaskDeadline> deadlinesById = new HashMap<>();
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+    private final ScheduledExecutorService timer =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("task-deadlines-"));
+    private final Counter expiredCounter;
+    private final Timer detectionLag;
+
+    private ScheduledFuture<?> nextWakeUp;
+    private LocalDateTime nextWakeUpAt;
+    private Set<Long> changedWhileLoading;
+    private volatile LocalDateTime loadedUntil;
+    private volatile LocalDateTime loadedAt;
+
+    @Autowired
+    public DeadlineTaskStatusUpdateSchedulerImpl(TaskService taskService,
+                                                 SchedulerLease schedulerLease,
+                                                 MeterRegistry meterRegistry,
+                                                 @Value("${statusupdater.deadline.horizon:PT1H}") Duration horizon,
+                                                 @Value("${statusupdater.batch.size:1000}") int batchSize,
+                                                 @Value("${tasks.lease.renew-interval:PT10S}") Duration leaseCheckInterval) {
+        this.taskService = taskService;
+        this.schedulerLease = schedulerLease;
+        this.horizon = horizon;
+        this.leaseCheckInterval = leaseCheckInterval;
+        this.reloadInterval = leaseCheckInterval.compareTo(horizon.dividedBy(2)) < 0
+                ? leaseCheckInterval : horizon.dividedBy(2);
+        this.batchSize = batchSize;
+        this.expiredCounter = Counter.builder("tasks.deadlines.expired")
+                .description("Tasks moved to PAST_DUE when their deadline passed")
+                .register(meterRegistry);
+        this.detectionLag = Timer.builder("tasks.deadlines.lag")
+                .description("Delay between a task deadline and its PAST_DUE transition")
+                .register(meterRegistry);
+        Gauge.builder("tasks.deadlines.tracked", this, DeadlineTaskStatusUpdateSchedulerImpl::trackedCount)
+                .description("Deadlines currently held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start claiming the lease once the application is ready; the deadlines are loaded once it is taken.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long checkMillis = Math.max(leaseCheckInterval.toMillis(), 1);
+        timer.scheduleWithFixedDelay(this::claim, 0, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Move the tasks whose deadline has passed to PAST_DUE, in batches, then sleep until the next deadline.
+     * Nothing is updated, and the deadlines are dropped, if another node holds the lease.
+     */
+    @Override
+    public void updateTaskStatuses() {
+        if (!schedulerLease.runExclusively(LEASE, this::updateExpired)) {
+            log.debug("Skipping task status update, lease {} is held by another node", LEASE);
+            resign();
+        }
+    }
+
+    private void updateExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskDeadline> expired = pollExpired(now);
+        while (!expired.isEmpty()) {
+            List<Long> ids = expired.stream().map(TaskDeadline::id).toList();
+            int updated;
+            try {
+                updated = taskService.updateStatusForDueDateTimeAndOldStatus(
+                        TaskStatus.NOT_DONE, TaskStatus.PAST_DUE, now, ids);
+            } catch (RuntimeException ex) {
+                expired.forEach(this::track);
+                throw ex;
+            }
+            expiredCounter.increment(updated);
+            expired.forEach(deadline -> detectionLag.record(Duration.between(deadline.dueDateTime(), now)));
+            log.info("Task status updated to PAST_DUE for {} of {} expired tasks", updated, ids.size());
+            expired = pollExpired(now);
+        }
+        scheduleNextWakeUp();
+    }
+
+    /**
+     * Keep the deadlines current with the saved and deleted tasks, once their transaction has committed.
+     *
+     * @param event The task change event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        switch (event.getType()) {
+            case SAVED -> event.getTasks().forEach(this::onTaskSaved);
+            case DELETED -> event.getTaskIds().forEach(this::untrack);
+            case DELETED_ALL -> clear();
+            case STATUS_UPDATED -> {
+                // Expired deadlines are polled before they are moved to PAST_DUE; other bulk moves out of NOT_DONE
+                // leave deadlines of tasks that are no longer NOT_DONE behind.
+                if (event.getOldStatus() == TaskStatus.NOT_DONE && event.getNewStatus() != TaskStatus.PAST_DUE) {
+                    requestReload();
+                }
+            }
+        }
+        scheduleNextWakeUp();
+    }
+
+    private void onTaskSaved(Task task) {
+        LocalDateTime until = loadedUntil;
+        if (task.getStatus() == TaskStatus.NOT_DONE
+                && task.getDueDateTime() != null
+                && until != null
+                && task.getDueDateTime().isBefore(until)) {
+            track(new TaskDeadline(task.getId(), task.getDueDateTime()));
+        } else {
+            untrack(task.getId());
+        }
+    }
+
+    /**
+     * Take or keep the lease, loading the deadlines when it is taken and every reload interval while it is kept,
+     * and drop them once another node holds it.
+     */
+    private void claim() {
+        try {
+            if (!schedulerLease.runExclusively(LEASE, this::reloadIfDue)) {
+                resign();
+            }
+        } catch (RuntimeException ex) {
+            log.error("Failed to claim lease {}: {}", LEASE, ex.getMessage(), ex);
+        }
+    }
+
+    private void reloadIfDue() {
+        LocalDateTime at = loadedAt;
+        // A little slack, so a reload finishing just before a claim does not skip it
+        if (loadedUntil == null || at == null
+                || !LocalDateTime.now().minus(reloadInterval.multipliedBy(9).dividedBy(10)).isBefore(at)) {
+            reload();
+        }
+    }
+
+    private void requestReload() {
+        if (loadedUntil != null && reloadPending.compareAndSet(false, true)) {
+            timer.execute(this::reload);
+        }
+    }
+
+    /**
+     * Replace the deadlines with those of the database. The tasks changed while the query ran keep the deadline
+     * their change event left, as the query may have read them before the change.
+     */
+    private void reload() {
+        reloadPending.set(false);
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDateTime until = startedAt.plus(horizon);
+            synchronized (this) {
+                changedWhileLoading = new HashSet<>();
+            }
+            List<TaskDeadline> loaded = taskService.findDeadlinesByStatusAndDueDateTimeBefore(TaskStatus.NOT_DONE, until);
+            synchronized (this) {
+                Set<Long> changed = changedWhileLoading;
+                changedWhileLoading = null;
+                List<TaskDeadline> kept = changed.stream().map(deadlinesById::get).filter(Objects::nonNull).toList();
+                clear();
+                loaded.stream().filter(deadline -> !changed.contains(deadline.id())).forEach(this::track);
+                kept.forEach(this::track);
+                loadedUntil = until;
+                loadedAt = startedAt;
+            }
+            log.debug("Loaded {} task deadlines until {}", loaded.size(), until);
+            scheduleNextWakeUp();
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                changedWhileLoading = null;
+            }
+            log.error("Failed to load task deadlines: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Drop the deadlines once another node holds the lease; they are loaded again when it is taken back.
+     */
+    private synchronized void resign() {
+        if (loadedUntil == null && deadlines.isEmpty()) {
+            return;
+        }
+        loadedUntil = null;
+        loadedAt = null;
+        clear();
+        if (nextWakeUp != null) {
+            nextWakeUp.cancel(false);
+            nextWakeUp = null;
+            nextWakeUpAt = null;
+        }
+        log.info("Dropped the task deadlines, lease {} is held by another node", LEASE);
+    }
+
+    private void wakeUp() {
+        synchronized (this) {
+            nextWakeUp = null;
+            nextWakeUpAt = null;
+        }
+        try {
+            updateTaskStatuses();
+        } catch (RuntimeException ex) {
+            log.error("Failed to update expired tasks: {}", ex.getMessage(), ex);
+            timer.schedule(this::wakeUp, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    private synchronized void track(TaskDeadline deadline) {
+        if (changedWhileLoading != null) {
+            changedWhileLoading.add(deadline.id());
+        }
+        TaskDeadline previous = deadlinesById.put(deadline.id(), deadline);
+        if (previous != null) {
+            deadlines.remove(previous);
+        }
+        deadlines.add(deadline);
+    }
+
+    private synchronized void untrack(Long id) {
+        if (changedWhileLoading != null) {
+            changedWhileLoading.add(id);
+        }
+        TaskDeadline previous = deadlinesById.remove(id);
+        if (previous != null) {
+            deadlines.remove(previous);
+        }
+    }
+
+    private synchronized void clear() {
+        deadlines.clear();
+        deadlinesById.clear();
+    }
+
+    private synchronized int trackedCount() {
+        return deadlines.size();
+    }
+
+    private synchronized List<TaskDeadline> pollExpired(LocalDateTime now) {
+        List<TaskDeadline> expired = new ArrayList<>();
+        while (expired.size() < batchSize && !deadlines.isEmpty() && deadlines.first().dueDateTime().isBefore(now)) {
+            TaskDeadline deadline = deadlines.pollFirst();
+            deadlinesById.remove(deadline.id());
+            expired.add(deadline);
+        }
+        return expired;
+    }
+
+    private synchronized void scheduleNextWakeUp() {
+        if (deadlines.isEmpty()) {
+            return;
+        }
+        LocalDateTime at = deadlines.first().dueDateTime();
+        if (nextWakeUp != null && !at.isBefore(nextWakeUpAt)) {
+            return;
+        }
+        if (nextWakeUp != null) {
+            nextWakeUp.cancel(false);
+        }
+        long delayMillis = Math.max(Duration.between(LocalDateTime.now(), at).toMillis() + 1, 0);
+        nextWakeUp = timer.schedule(this::wakeUp, delayMillis, TimeUnit.MILLISECONDS);
+        nextWakeUpAt = at;
+    }
+
+    /**
+     * Stop the timer when the application context is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+}
@@ -0,0 +1,21 @@
+package com.tasks.taskmanagement.application.spring.service.statusupdate;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The TaskStatusSweeper interface defines a method for moving all tasks past their due date to a new status.
+ */
+public interface TaskStatusSweeper {
+
+    /**
+     * Update the status of all tasks with the old status and a due date-time before the given time.
+     *
+     * @param oldStatus        The old status of tasks to be updated.
+     * @param newStatus        The new status to set for the tasks.
+     * @param currentTimestamp The timestamp used for comparison with the dueDateTime field of tasks.
+     * @return The number of updated tasks.
+     */
+    long sweep(TaskStatus oldStatus, TaskStatus newStatus, LocalDateTime currentTimestamp);
+}
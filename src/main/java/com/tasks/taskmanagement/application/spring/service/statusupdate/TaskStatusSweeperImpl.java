@@ -0,0 +1,181 @@
+package com.tasks.taskmanagement.application.spring.service.statusupdate;
+
+import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.IdRange;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The TaskStatusSweeperImpl class implements the TaskStatusSweeper interface.
+ * Instead of one unbounded UPDATE, it splits the IDs of the matching tasks into bounded chunks that are
+ * updated in short transactions by a pool of workers. The chunk size adapts to the observed chunk latency:
+ * it is halved when a chunk takes longer than the target and grows when chunks are well below it.
+ */
+@Slf4j
+@Service
+public class TaskStatusSweeperImpl implements TaskStatusSweeper {
+
+    private final TaskService taskService;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetChunkMillis;
+    private final AtomicInteger chunkSize;
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+    private final Counter rowsCounter;
+    private final Timer chunkTimer;
+
+    @Autowired
+    public TaskStatusSweeperImpl(TaskService taskService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${statusupdater.batch.size:1000}") int batchSize,
+                                 @Value("${statusupdater.sweeper.workers:4}") int workerCount,
+                                 @Value("${statusupdater.sweeper.min-chunk-size:100}") int minChunkSize,
+                                 @Value("${statusupdater.sweeper.max-chunk-size:50000}") int maxChunkSize,
+                                 @Value("${statusupdater.sweeper.target-chunk-millis:100}") long targetChunkMillis) {
+        this.taskService = taskService;
+        this.workerCount = workerCount;
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.targetChunkMillis = targetChunkMillis;
+        this.chunkSize = new AtomicInteger(Math.max(minChunkSize, Math.min(batchSize, maxChunkSize)));
+        this.workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("status-sweeper-"));
+
+        this.rowsCounter = Counter.builder("tasks.sweeper.rows")
+                .description("Tasks moved to a new status by the sweeper")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("tasks.sweeper.chunk")
+                .description("Duration of one sweeper chunk transaction")
+                .register(meterRegistry);
+        Gauge.builder("tasks.sweeper.rows.per.second", lastRowsPerSecond, AtomicLong::get)
+                .description("Throughput of the last sweep")
+                .register(meterRegistry);
+        Gauge.builder("tasks.sweeper.chunk.size", chunkSize, AtomicInteger::get)
+                .description("Current adaptive chunk size, in IDs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Update the status of all matching tasks chunk by chunk, spread across the worker pool.
+     * The method returns once every chunk has been processed.
+     *
+     * @param oldStatus        The old status of tasks to be updated.
+     * @param newStatus        The new status to set for the tasks.
+     * @param currentTimestamp The timestamp used for comparison with the dueDateTime field of tasks.
+     * @return The number of updated tasks.
+     */
+    @Override
+    public long sweep(TaskStatus oldStatus, TaskStatus newStatus, LocalDateTime currentTimestamp) {
+        IdRange range = taskService.findIdRangeByStatusAndDueDateTimeBefore(oldStatus, currentTimestamp);
+        if (range.isEmpty()) {
+            lastRowsPerSecond.set(0);
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        AtomicLong nextFromId = new AtomicLong(range.fromId());
+        LongAdder updated = new LongAdder();
+        long chunks = (range.toId() - range.fromId()) / chunkSize.get() + 1;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < Math.min(workerCount, chunks); i++) {
+            futures.add(workers.submit(() ->
+                    sweepChunks(oldStatus, newStatus, currentTimestamp, range.toId(), nextFromId, updated)));
+        }
+        awaitAll(futures);
+
+        long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1);
+        long rows = updated.sum();
+        lastRowsPerSecond.set(rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        log.info("Swept {} tasks from {} to {} in {} ms ({} rows/s)",
+                rows, oldStatus, newStatus, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), lastRowsPerSecond.get());
+        return rows;
+    }
+
+    /**
+     * Worker loop: claims the next chunk of IDs and updates it until the whole range is covered.
+     */
+    private void sweepChunks(TaskStatus oldStatus,
+                             TaskStatus newStatus,
+                             LocalDateTime currentTimestamp,
+                             long lastId,
+                             AtomicLong nextFromId,
+                             LongAdder updated) {
+        while (true) {
+            int size = chunkSize.get();
+            long fromId = nextFromId.getAndAdd(size);
+            if (fromId > lastId) {
+                return;
+            }
+            long toId = Math.min(fromId + size - 1, lastId);
+
+            long startedAt = System.nanoTime();
+            int rows = taskService.updateStatusForDueDateTimeAndOldStatus(
+                    oldStatus, newStatus, currentTimestamp, new IdRange(fromId, toId));
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            chunkTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            rowsCounter.increment(rows);
+            updated.add(rows);
+            adaptChunkSize(size, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    /**
+     * Halve the chunk size when a chunk was slower than the target and grow it by half when it was
+     * faster than half the target, within the configured bounds.
+     */
+    private void adaptChunkSize(int size, long elapsedMillis) {
+        int next;
+        if (elapsedMillis > targetChunkMillis) {
+            next = Math.max(minChunkSize, size / 2);
+        } else if (elapsedMillis < targetChunkMillis / 2) {
+            next = Math.min(maxChunkSize, size + size / 2);
+        } else {
+            return;
+        }
+        chunkSize.compareAndSet(size, next);
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Task status sweep was interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Task status sweep failed", ex.getCause());
+        }
+    }
+
+    /**
+     * Stop the worker pool when the application context is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -1,5 +1,6 @@
 package com.tasks.taskmanagement.application.spring.service.statusupdate;
 
+import com.tasks.taskmanagement.application.spring.service.lease.SchedulerLease;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -9,17 +10,22 @@ import org.springframework.stereotype.Service;
 /**
  * The TaskStatusUpdateSchedulerImpl class implements the TaskStatusUpdateScheduler interface.
  * It is responsible for scheduling and triggering the update of task statuses based on specified conditions.
+ * The update runs under a lease, so only one node of the cluster sweeps at a time.
  */
 @Service
 @Slf4j
 @ConditionalOnProperty(name = "statusupdater.scheduling.type", havingValue = "custom")
 public class TaskStatusUpdateSchedulerImpl implements TaskStatusUpdateScheduler {
 
+    public static final String LEASE = "task-status-update";
+
     private final TaskStatusUpdater statusUpdater;
+    private final SchedulerLease schedulerLease;
 
     @Autowired
-    public TaskStatusUpdateSchedulerImpl(TaskStatusUpdater statusUpdater) {
+    public TaskStatusUpdateSchedulerImpl(TaskStatusUpdater statusUpdater, SchedulerLease schedulerLease) {
         this.statusUpdater = statusUpdater;
+        this.schedulerLease = schedulerLease;
     }
 
     /**
@@ -27,6 +33,8 @@ public class TaskStatusUpdateSchedulerImpl implements TaskStatusUpdateScheduler
      */
     @Scheduled(cron = "${statusupdater.scheduling.taskStatusUpdateCron}")
     public void updateTaskStatuses() {
-        statusUpdater.updateStatusAll();
+        if (!schedulerLease.runExclusively(LEASE, statusUpdater::updateStatusAll)) {
+            log.debug("Skipping task status update, lease {} is held by another node", LEASE);
+        }
     }
 }
@@ -1,19 +1,13 @@
 package com.tasks.taskmanagement.application.spring.service.statusupdate;
 
 import com.tasks.taskmanagement.domain.entity.Task;
-import com.tasks.taskmanagement.domain.repository.TaskRepository;
-import com.tasks.taskmanagement.domain.service.TaskService;
 import com.tasks.taskmanagement.domain.strategy.StatusUpdateStrategy;
 import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * The TaskStatusUpdaterImpl class implements the TaskStatusUpdater interface.
@@ -24,12 +18,12 @@ import java.util.List;
 public class TaskStatusUpdaterImpl implements TaskStatusUpdater {
 
     private final StatusUpdateStrategy statusUpdateStrategy;
-    private final TaskService taskService;
+    private final TaskStatusSweeper taskStatusSweeper;
 
     @Autowired
-    public TaskStatusUpdaterImpl(StatusUpdateStrategy pastDueStatusUpdateStrategy, TaskService taskService) {
+    public TaskStatusUpdaterImpl(StatusUpdateStrategy pastDueStatusUpdateStrategy, TaskStatusSweeper taskStatusSweeper) {
         this.statusUpdateStrategy = pastDueStatusUpdateStrategy;
-        this.taskService = taskService;
+        this.taskStatusSweeper = taskStatusSweeper;
     }
 
     /**
@@ -46,12 +40,12 @@ public class TaskStatusUpdaterImpl implements TaskStatusUpdater {
 
     /**
      * Update the status of all eligible tasks based on the defined strategy.
-     * The method retrieves tasks that meet the criteria and updates their status in batches.
+     * The sweeper updates the matching tasks in bounded ID chunks, each in a short transaction,
+     * so writers are never blocked by one long-running UPDATE.
      */
-    @Transactional(isolation = Isolation.SERIALIZABLE)
     public void updateStatusAll() {
         log.info("Starting task status update...");
-        taskService.updateStatusForDueDateTimeAndOldStatus(TaskStatus.NOT_DONE,TaskStatus.PAST_DUE, LocalDateTime.now());
+        taskStatusSweeper.sweep(TaskStatus.NOT_DONE, TaskStatus.PAST_DUE, LocalDateTime.now());
         log.info("Task status update completed.");
     }
 }
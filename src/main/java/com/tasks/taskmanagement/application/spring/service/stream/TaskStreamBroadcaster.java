@@ -0,0 +1,19 @@
+package com.tasks.taskmanagement.application.spring.service.stream;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * The TaskStreamBroadcaster interface defines a push channel of the task changes,
+ * for clients to follow the tasks without polling the task list.
+ */
+public interface TaskStreamBroadcaster {
+
+    /**
+     * Subscribe to the changes of the tasks with a status, or of all tasks.
+     *
+     * @param status The status of the tasks to follow, or null for all tasks.
+     * @return The emitter of the server-sent events of the subscriber.
+     */
+    SseEmitter subscribe(TaskStatus status);
+}
@@ -0,0 +1,322 @@
+package com.tasks.taskmanagement.application.spring.service.stream;
+
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.event.TaskChangedEvent;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The TaskStreamBroadcasterImpl class implements the TaskStreamBroadcaster interface with server-sent events.
+ * Idle subscribers hold no thread: the committed task changes are queued per subscriber and written by a small
+ * pool of dispatch threads, one subscriber at a time.
+ * Each subscriber has a bounded buffer of pending events, in which a newer event of a task replaces the pending
+ * one. When a slow subscriber still exceeds its buffer, the pending events are dropped for a single "overflow"
+ * event, telling the client to read the task list again.
+ * A write to a subscriber that takes longer than the write timeout drops the subscriber, so a stalled client
+ * holds a dispatch thread for a bounded time instead of delaying every other subscriber.
+ * A heartbeat comment is sent periodically, so dead connections are detected and removed.
+ */
+@Slf4j
+@Service
+public class TaskStreamBroadcasterImpl implements TaskStreamBroadcaster {
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatchers;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final long writeTimeoutNanos;
+    private final AtomicLong nextEventId = new AtomicLong();
+    private final Counter overflowCounter;
+    private final Counter stalledCounter;
+
+    @Autowired
+    public TaskStreamBroadcasterImpl(MeterRegistry meterRegistry,
+                                     @Value("${tasks.stream.dispatch-threads:2}") int dispatchThreads,
+                                     @Value("${tasks.stream.buffer-size:256}") int bufferSize,
+                                     @Value("${tasks.stream.timeout:PT30M}") Duration timeout,
+                                     @Value("${tasks.stream.write-timeout:PT5S}") Duration writeTimeout) {
+        this.dispatchers = Executors.newFixedThreadPool(dispatchThreads, new CustomizableThreadFactory("task-stream-"));
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.overflowCounter = Counter.builder("tasks.stream.overflows")
+                .description("Times a slow subscriber exceeded its buffer and its pending events were dropped")
+                .register(meterRegistry);
+        this.stalledCounter = Counter.builder("tasks.stream.stalled")
+                .description("Subscribers dropped because a write to them exceeded the write timeout")
+                .register(meterRegistry);
+        Gauge.builder("tasks.stream.subscribers", subscribers, Set::size)
+                .description("Clients subscribed to the task change stream")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribe to the changes of the tasks with a status, or of all tasks.
+     * A first heartbeat is sent right away, so the response headers reach the client.
+     *
+     * @param status The status of the tasks to follow, or null for all tasks.
+     * @return The emitter of the server-sent events of the subscriber.
+     */
+    @Override
+    public SseEmitter subscribe(TaskStatus status) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, status);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        offer(subscriber, heartbeat());
+        return emitter;
+    }
+
+    /**
+     * Queue a committed task change for the interested subscribers.
+     *
+     * @param event The task change event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        List<TaskStreamEvent> events = toStreamEvents(event);
+        for (Subscriber subscriber : subscribers) {
+            for (TaskStreamEvent streamEvent : events) {
+                if (streamEvent.matches(subscriber.status)) {
+                    offer(subscriber, streamEvent);
+                }
+            }
+        }
+    }
+
+    /**
+     * Send a heartbeat to every subscriber.
+     */
+    @Scheduled(fixedDelayString = "${tasks.stream.heartbeat:PT15S}")
+    public void sendHeartbeats() {
+        TaskStreamEvent heartbeat = heartbeat();
+        subscribers.forEach(subscriber -> offer(subscriber, heartbeat));
+    }
+
+    /**
+     * Drop the subscribers a write has been blocked on for longer than the write timeout.
+     * The blocked write is interrupted, which frees its dispatch thread for the other subscribers.
+     */
+    @Scheduled(fixedDelayString = "${tasks.stream.write-check-interval:PT1S}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.abortIfStalled(now)) {
+                subscribers.remove(subscriber);
+                stalledCounter.increment();
+                log.warn("Dropped a task stream subscriber stalled for more than {} ms",
+                        Duration.ofNanos(writeTimeoutNanos).toMillis());
+                subscriber.emitter.completeWithError(new IOException("Task stream write timed out"));
+            }
+        }
+    }
+
+    /**
+     * Close the streams when the application context is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        dispatchers.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter.complete();
+            } catch (IllegalStateException ex) {
+                // The response of a client already gone may have been recycled
+                log.debug("Failed to complete a task stream: {}", ex.getMessage());
+            }
+        }
+        subscribers.clear();
+    }
+
+    private static List<TaskStreamEvent> toStreamEvents(TaskChangedEvent event) {
+        LocalDateTime timestamp = event.getTimestamp();
+        return switch (event.getType()) {
+            case SAVED -> {
+                List<TaskStreamEvent> events = new ArrayList<>();
+                for (int i = 0; i < event.getTasks().size(); i++) {
+                    Task task = event.getTasks().get(i);
+                    TaskStatus previousStatus = event.getPreviousStatuses().get(i);
+                    events.add(new TaskStreamEvent(TaskStreamEvent.SAVED, task.getId(), task.getStatus(),
+                            previousStatus != task.getStatus() ? previousStatus : null, task.getVersion(), timestamp));
+                }
+                yield events;
+            }
+            case DELETED -> event.getTaskIds().stream()
+                    .map(id -> new TaskStreamEvent(TaskStreamEvent.DELETED, id, null, null, null, timestamp))
+                    .toList();
+            case DELETED_ALL -> List.of(
+                    new TaskStreamEvent(TaskStreamEvent.DELETED_ALL, null, null, null, null, timestamp));
+            case STATUS_UPDATED -> List.of(new TaskStreamEvent(TaskStreamEvent.STATUS_UPDATED, null,
+                    event.getNewStatus(), event.getOldStatus(), null, timestamp));
+        };
+    }
+
+    private static TaskStreamEvent heartbeat() {
+        return new TaskStreamEvent(TaskStreamEvent.HEARTBEAT, null, null, null, null, LocalDateTime.now());
+    }
+
+    private void offer(Subscriber subscriber, TaskStreamEvent event) {
+        if (subscriber.offer(event)) {
+            try {
+                dispatchers.execute(() -> dispatch(subscriber));
+            } catch (RuntimeException ex) {
+                log.warn("Failed to dispatch task stream events: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private void dispatch(Subscriber subscriber) {
+        List<TaskStreamEvent> events;
+        while (!(events = subscriber.take()).isEmpty()) {
+            try {
+                for (TaskStreamEvent event : events) {
+                    subscriber.beginWrite();
+                    try {
+                        subscriber.emitter.send(toSseEvent(event));
+                    } finally {
+                        subscriber.endWrite();
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client is gone; the emitter callbacks may not run for a broken connection
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(ex);
+                return;
+            }
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(TaskStreamEvent event) {
+        if (TaskStreamEvent.HEARTBEAT.equals(event.type())) {
+            return SseEmitter.event().comment(TaskStreamEvent.HEARTBEAT);
+        }
+        return SseEmitter.event()
+                .id(Long.toString(nextEventId.incrementAndGet()))
+                .name(event.type())
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * A subscriber with its bounded buffer of pending events, coalesced by key.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final TaskStatus status;
+        private final Map<String, TaskStreamEvent> pending = new LinkedHashMap<>();
+        private boolean dispatching;
+        private Thread writer;
+        private long writeStartedNanos;
+        private boolean aborted;
+
+        private Subscriber(SseEmitter emitter, TaskStatus status) {
+            this.emitter = emitter;
+            this.status = status;
+        }
+
+        /**
+         * Queue an event, replacing the pending event with the same key.
+         * A replaced change of a task keeps the status the task had before it, so a subscriber following
+         * that status still learns that the task left it.
+         *
+         * @return True if a dispatch must be started for this subscriber, false if one is already running.
+         */
+        private synchronized boolean offer(TaskStreamEvent event) {
+            if (aborted) {
+                return false;
+            }
+            TaskStreamEvent replaced = pending.remove(event.getKey());
+            if (replaced != null && TaskStreamEvent.SAVED.equals(event.type())
+                    && TaskStreamEvent.SAVED.equals(replaced.type()) && replaced.oldStatus() != null) {
+                event = new TaskStreamEvent(event.type(), event.taskId(), event.status(),
+                        replaced.oldStatus() != event.status() ? replaced.oldStatus() : null,
+                        event.version(), event.timestamp());
+            }
+            pending.put(event.getKey(), event);
+            if (pending.size() > bufferSize) {
+                pending.clear();
+                TaskStreamEvent overflow = new TaskStreamEvent(TaskStreamEvent.OVERFLOW, null, null, null, null,
+                        event.timestamp());
+                pending.put(overflow.getKey(), overflow);
+                overflowCounter.increment();
+            }
+            if (dispatching) {
+                return false;
+            }
+            dispatching = true;
+            return true;
+        }
+
+        /**
+         * Take the pending events, or stop the dispatch if there are none or the subscriber was dropped.
+         */
+        private synchronized List<TaskStreamEvent> take() {
+            List<TaskStreamEvent> events = aborted ? List.of() : new ArrayList<>(pending.values());
+            pending.clear();
+            if (events.isEmpty()) {
+                dispatching = false;
+            }
+            return events;
+        }
+
+        private synchronized void beginWrite() throws IOException {
+            if (aborted) {
+                throw new IOException("Task stream subscriber dropped");
+            }
+            writer = Thread.currentThread();
+            writeStartedNanos = System.nanoTime();
+        }
+
+        private synchronized void endWrite() {
+            writer = null;
+            if (aborted) {
+                // Clear the interrupt of the aborted write, so it does not leak into the next dispatch
+                Thread.interrupted();
+            }
+        }
+
+        /**
+         * Abort the write in progress, if it started longer than the write timeout ago.
+         *
+         * @return True if the subscriber was dropped, false otherwise.
+         */
+        private synchronized boolean abortIfStalled(long now) {
+            if (writer == null || now - writeStartedNanos < writeTimeoutNanos) {
+                return false;
+            }
+            aborted = true;
+            writer.interrupt();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.tasks.taskmanagement.application.spring.service.stream;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event of the task change stream, sent as the data of a server-sent event named after its type.
+ *
+ * @param type      The type of the event.
+ * @param taskId    The ID of the changed task, if a single task changed.
+ * @param status    The status of the saved task, or the new status of the bulk-updated tasks.
+ * @param oldStatus The status the saved task had, if it changed, or the old status of the bulk-updated tasks.
+ * @param version   The version of the saved task.
+ * @param timestamp The time of the change.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskStreamEvent(String type,
+                              Long taskId,
+                              TaskStatus status,
+                              TaskStatus oldStatus,
+                              Long version,
+                              LocalDateTime timestamp) {
+
+    public static final String SAVED = "saved";
+    public static final String DELETED = "deleted";
+    public static final String DELETED_ALL = "deleted-all";
+    public static final String STATUS_UPDATED = "status-updated";
+    public static final String OVERFLOW = "overflow";
+    public static final String HEARTBEAT = "heartbeat";
+
+    /**
+     * Get the key under which the pending events of a subscriber are coalesced:
+     * a newer event replaces a pending one with the same key.
+     *
+     * @return The coalescing key.
+     */
+    @JsonIgnore
+    public String getKey() {
+        return switch (type) {
+            case SAVED, DELETED -> "task:" + taskId;
+            case STATUS_UPDATED -> "status:" + oldStatus + ">" + status;
+            default -> type;
+        };
+    }
+
+    /**
+     * Check whether a subscriber to the tasks with a status, or to all tasks, is interested in this event.
+     * Deletions carry no status, so they are sent to every subscriber.
+     *
+     * @param filter The status the subscriber follows, or null for all tasks.
+     * @return True if the event is sent to the subscriber, false otherwise.
+     */
+    public boolean matches(TaskStatus filter) {
+        return filter == null
+                || status == null
+                || filter == status
+                || filter == oldStatus;
+    }
+}
@@ -0,0 +1,31 @@
+package com.tasks.taskmanagement.application.spring.service.transition;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransitionJob;
+
+import java.util.Optional;
+
+/**
+ * The TaskTransitionJobRunner interface defines methods for moving the tasks matching a filter to a status
+ * in the background, and for following the progress of such a job.
+ */
+public interface TaskTransitionJobRunner {
+
+    /**
+     * Record a job moving the tasks matching a filter to a status, and start it in the background.
+     *
+     * @param filter       The filter selecting the tasks.
+     * @param targetStatus The status to move the tasks to.
+     * @return The queued job.
+     */
+    TaskTransitionJob submit(TaskFilter filter, TaskStatus targetStatus);
+
+    /**
+     * Find a job by its ID, with its current progress.
+     *
+     * @param id The ID of the job.
+     * @return The job, or empty if there is none with this ID.
+     */
+    Optional<TaskTransitionJob> find(Long id);
+}
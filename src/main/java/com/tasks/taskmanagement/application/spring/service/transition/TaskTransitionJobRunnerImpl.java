@@ -0,0 +1,188 @@
+package com.tasks.taskmanagement.application.spring.service.transition;
+
+import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransitionChunk;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransitionJob;
+import com.tasks.taskmanagement.infrastructure.persistence.job.TaskTransitionJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The TaskTransitionJobRunnerImpl class implements the TaskTransitionJobRunner interface.
+ * A job walks the matching tasks in ID order, one bounded chunk per transaction, each moved with a single UPDATE,
+ * so it never holds locks on more than a chunk of tasks. After each chunk it pauses in proportion to the time
+ * the chunk took, to leave the database to the interactive requests for the rest of the duty cycle.
+ * Jobs run on the node they were submitted to; their progress is stored in the database after each chunk.
+ * The node refreshes the heartbeat of its queued and running jobs, and records as failed the jobs whose heartbeat
+ * is stale, at startup and periodically, so the jobs of a node that crashed do not stay queued or running.
+ */
+@Slf4j
+@Service
+public class TaskTransitionJobRunnerImpl implements TaskTransitionJobRunner {
+
+    private final TaskService taskService;
+    private final TaskTransitionJobRepository jobRepository;
+    private final ExecutorService workers;
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+    private final int chunkSize;
+    private final double dutyCycle;
+    private final Duration staleAfter;
+    private final Counter updatedCounter;
+
+    @Autowired
+    public TaskTransitionJobRunnerImpl(TaskService taskService,
+                                       TaskTransitionJobRepository jobRepository,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${tasks.transition-jobs.workers:1}") int workerCount,
+                                       @Value("${tasks.transition-jobs.chunk-size:500}") int chunkSize,
+                                       @Value("${tasks.transition-jobs.duty-cycle:0.5}") double dutyCycle,
+                                       @Value("${tasks.transition-jobs.stale-after:PT1M}") Duration staleAfter) {
+        this.taskService = taskService;
+        this.jobRepository = jobRepository;
+        this.chunkSize = chunkSize;
+        this.dutyCycle = dutyCycle;
+        this.staleAfter = staleAfter;
+        this.workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("transition-job-"));
+        this.updatedCounter = Counter.builder("tasks.transition-jobs.updated")
+                .description("Tasks moved to a new status by the transition jobs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a job moving the tasks matching a filter to a status, and queue it for the workers.
+     *
+     * @param filter       The filter selecting the tasks.
+     * @param targetStatus The status to move the tasks to.
+     * @return The queued job.
+     */
+    @Override
+    public TaskTransitionJob submit(TaskFilter filter, TaskStatus targetStatus) {
+        long total = taskService.countForTransition(filter, targetStatus);
+        TaskTransitionJob job = jobRepository.create(filter, targetStatus, total);
+        log.info("Queued transition job {} moving {} tasks matching {} to {}", job.id(), total, filter, targetStatus);
+        activeJobs.add(job.id());
+        workers.execute(new JobRun(job));
+        return job;
+    }
+
+    @Override
+    public Optional<TaskTransitionJob> find(Long id) {
+        return jobRepository.findById(id);
+    }
+
+    /**
+     * Refresh the heartbeat of the jobs of this node, and record as failed the jobs of the nodes that stopped.
+     * The first run happens at startup, which also fails the jobs this node left behind when it crashed.
+     */
+    @Scheduled(fixedDelayString = "${tasks.transition-jobs.heartbeat:PT10S}")
+    public void heartbeat() {
+        try {
+            jobRepository.touch(List.copyOf(activeJobs));
+            int failed = jobRepository.failStale(staleAfter, "Stopped with its node");
+            if (failed > 0) {
+                log.warn("Recorded {} transition jobs of stopped nodes as failed", failed);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refresh the transition job heartbeats: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Move the tasks of a job chunk by chunk, recording the progress after each chunk and the outcome at the end.
+     */
+    private void run(TaskTransitionJob job) {
+        jobRepository.markRunning(job.id());
+        long afterId = Long.MIN_VALUE;
+        long updated = 0;
+        try {
+            while (true) {
+                long startedAt = System.nanoTime();
+                TaskTransitionChunk chunk = taskService.transitionChunk(job.filter(), job.targetStatus(), afterId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                afterId = chunk.lastId();
+                updated += chunk.updated();
+                updatedCounter.increment(chunk.updated());
+                jobRepository.updateProgress(job.id(), updated);
+                throttle(System.nanoTime() - startedAt);
+            }
+            jobRepository.finish(job.id(), TaskTransitionJob.State.SUCCEEDED, updated, null);
+            log.info("Transition job {} moved {} tasks to {}", job.id(), updated, job.targetStatus());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            jobRepository.finish(job.id(), TaskTransitionJob.State.FAILED, updated, "Interrupted by shutdown");
+        } catch (RuntimeException ex) {
+            log.error("Transition job {} failed after moving {} tasks", job.id(), updated, ex);
+            jobRepository.finish(job.id(), TaskTransitionJob.State.FAILED, updated, ex.getMessage());
+        }
+    }
+
+    /**
+     * Pause after a chunk so the job only keeps the database busy for the duty cycle:
+     * a duty cycle of 0.5 pauses as long as the chunk took, 1 does not pause.
+     */
+    private void throttle(long chunkNanos) throws InterruptedException {
+        if (dutyCycle < 1) {
+            TimeUnit.NANOSECONDS.sleep((long) (chunkNanos * (1 - dutyCycle) / dutyCycle));
+        }
+    }
+
+    /**
+     * Stop the workers when the application context is closed; queued and running jobs are recorded as failed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Runnable drained : workers.shutdownNow()) {
+            if (drained instanceof JobRun jobRun) {
+                jobRepository.finish(jobRun.job.id(), TaskTransitionJob.State.FAILED, 0, "Not started before shutdown");
+                activeJobs.remove(jobRun.job.id());
+            }
+        }
+        try {
+            // Let the interrupted jobs record their outcome while the database is still available
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A queued job, so the jobs drained from the queue at shutdown can be recorded as failed.
+     */
+    private final class JobRun implements Runnable {
+
+        private final TaskTransitionJob job;
+
+        private JobRun(TaskTransitionJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            try {
+                TaskTransitionJobRunnerImpl.this.run(job);
+            } finally {
+                activeJobs.remove(job.id());
+            }
+        }
+    }
+}
@@ -2,9 +2,12 @@ package com.tasks.taskmanagement.application.spring.validator;
 
 import com.tasks.taskmanagement.domain.entity.Task;
 import com.tasks.taskmanagement.domain.validator.TaskValidator;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The CompositTaskValidator class implements the TaskValidator interface.
@@ -33,4 +36,18 @@ public class CompositTaskValidator implements TaskValidator {
             validator.validate(task);
         }
     }
+
+    /**
+     * Get the statuses rejected by any of the registered validators.
+     *
+     * @return The union of the rejected statuses.
+     */
+    @Override
+    public Set<TaskStatus> getRejectedStatuses() {
+        Set<TaskStatus> rejected = EnumSet.noneOf(TaskStatus.class);
+        for (TaskValidator validator : validators) {
+            rejected.addAll(validator.getRejectedStatuses());
+        }
+        return rejected;
+    }
 }
@@ -7,6 +7,8 @@ import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
 /**
  * The TaskIsNotDoneChecker class is a task validator that checks if a task is not marked as DONE.
  */
@@ -26,4 +28,9 @@ public class TaskIsNotDoneChecker implements TaskValidator {
             throw new TaskValidationException("The task cannot be Done for this operation.");
         }
     }
+
+    @Override
+    public Set<TaskStatus> getRejectedStatuses() {
+        return Set.of(TaskStatus.DONE);
+    }
 }
@@ -7,6 +7,8 @@ import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
 /**
  * The TaskIsNotPastDueChecker class is a task validator that checks if a task is not marked as PAST_DUE.
  */
@@ -26,4 +28,9 @@ public class TaskIsNotPastDueChecker implements TaskValidator {
             throw new TaskValidationException("The task cannot be PAST_DUE for this operation.");
         }
     }
+
+    @Override
+    public Set<TaskStatus> getRejectedStatuses() {
+        return Set.of(TaskStatus.PAST_DUE);
+    }
 }
@@ -23,6 +23,20 @@ public interface Task {
      */
     void setId(Long id);
 
+    /**
+     * Get the version of the task, incremented on every update and used for optimistic locking.
+     *
+     * @return The version of the task, or null if it has not been saved yet.
+     */
+    Long getVersion();
+
+    /**
+     * Set the version of the task. Saving a task whose version is not the current one fails.
+     *
+     * @param version The version the task is expected to have.
+     */
+    void setVersion(Long version);
+
     /**
      * Get the description of the task.
      *
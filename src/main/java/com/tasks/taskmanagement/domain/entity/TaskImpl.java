@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 public class TaskImpl implements Task {
 
     private Long id;
+    private Long version;
     private String description;
     private LocalDateTime creationDateTime;
     private LocalDateTime dueDateTime;
@@ -35,6 +36,14 @@ public class TaskImpl implements Task {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -80,6 +89,7 @@ public class TaskImpl implements Task {
     public String toString() {
         return "Task{" +
                 "id=" + id +
+                ", version=" + version +
                 ", description='" + description + '\'' +
                 ", creationDateTime=" + creationDateTime +
                 ", dueDateTime=" + dueDateTime +
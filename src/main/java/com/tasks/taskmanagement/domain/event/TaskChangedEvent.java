@@ -0,0 +1,149 @@
+package com.tasks.taskmanagement.domain.event;
+
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The TaskChangedEvent class describes a change made to the stored tasks.
+ * It is published by the task service so that components keeping derived state
+ * (deadlines, caches, change feeds) can stay current.
+ */
+public class TaskChangedEvent {
+
+    /**
+     * The kind of change that happened.
+     * - SAVED: Tasks were created or updated; the saved tasks and the statuses they had are attached.
+     * - DELETED: Tasks were deleted; their IDs are attached.
+     * - DELETED_ALL: All tasks were deleted.
+     * - STATUS_UPDATED: Tasks with the old status and a due date-time before the timestamp were moved to the new status.
+     */
+    public enum Type {
+        SAVED,
+        DELETED,
+        DELETED_ALL,
+        STATUS_UPDATED
+    }
+
+    private final Type type;
+    private final List<Task> tasks;
+    private final List<Long> taskIds;
+    private final List<TaskStatus> previousStatuses;
+    private final TaskStatus oldStatus;
+    private final TaskStatus newStatus;
+    private final LocalDateTime timestamp;
+
+    private TaskChangedEvent(Type type,
+                             List<Task> tasks,
+                             List<Long> taskIds,
+                             List<TaskStatus> previousStatuses,
+                             TaskStatus oldStatus,
+                             TaskStatus newStatus,
+                             LocalDateTime timestamp) {
+        this.type = type;
+        this.tasks = tasks;
+        this.taskIds = taskIds;
+        this.previousStatuses = previousStatuses;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Create an event for created tasks.
+     *
+     * @param tasks The saved tasks.
+     * @return The event.
+     */
+    public static TaskChangedEvent saved(List<Task> tasks) {
+        return saved(tasks, Collections.nCopies(tasks.size(), null));
+    }
+
+    /**
+     * Create an event for created or updated tasks.
+     *
+     * @param tasks            The saved tasks.
+     * @param previousStatuses The statuses the tasks had, in the same order, null for new tasks.
+     * @return The event.
+     */
+    public static TaskChangedEvent saved(List<Task> tasks, List<TaskStatus> previousStatuses) {
+        return new TaskChangedEvent(Type.SAVED, List.copyOf(tasks), tasks.stream().map(Task::getId).toList(),
+                Collections.unmodifiableList(new ArrayList<>(previousStatuses)), null, null, LocalDateTime.now());
+    }
+
+    /**
+     * Create an event for deleted tasks.
+     *
+     * @param taskIds The IDs of the deleted tasks.
+     * @return The event.
+     */
+    public static TaskChangedEvent deleted(List<Long> taskIds) {
+        return new TaskChangedEvent(Type.DELETED, List.of(), List.copyOf(taskIds), List.of(), null, null,
+                LocalDateTime.now());
+    }
+
+    /**
+     * Create an event for the deletion of all tasks.
+     *
+     * @return The event.
+     */
+    public static TaskChangedEvent deletedAll() {
+        return new TaskChangedEvent(Type.DELETED_ALL, List.of(), List.of(), List.of(), null, null, LocalDateTime.now());
+    }
+
+    /**
+     * Create an event for a bulk status update.
+     *
+     * @param oldStatus        The old status of the updated tasks.
+     * @param newStatus        The new status of the updated tasks.
+     * @param currentTimestamp The timestamp the dueDateTime of the updated tasks was compared with.
+     * @return The event.
+     */
+    public static TaskChangedEvent statusUpdated(TaskStatus oldStatus, TaskStatus newStatus, LocalDateTime currentTimestamp) {
+        return new TaskChangedEvent(Type.STATUS_UPDATED, List.of(), List.of(), List.of(), oldStatus, newStatus,
+                currentTimestamp);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public List<TaskStatus> getPreviousStatuses() {
+        return previousStatuses;
+    }
+
+    public TaskStatus getOldStatus() {
+        return oldStatus;
+    }
+
+    public TaskStatus getNewStatus() {
+        return newStatus;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskChangedEvent{" +
+                "type=" + type +
+                ", taskIds=" + taskIds +
+                ", oldStatus=" + oldStatus +
+                ", newStatus=" + newStatus +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -0,0 +1,18 @@
+package com.tasks.taskmanagement.domain.exception;
+
+/**
+ * The InvalidTaskCursorException class is a custom exception that extends the RuntimeException class.
+ * It is used to indicate that a page cursor sent by a client was not issued by the task list.
+ */
+public class InvalidTaskCursorException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidTaskCursorException for a cursor.
+     *
+     * @param cursor The invalid cursor.
+     * @param cause  Why the cursor could not be decoded.
+     */
+    public InvalidTaskCursorException(String cursor, Throwable cause) {
+        super("Invalid page cursor: " + cursor, cause);
+    }
+}
@@ -2,12 +2,19 @@ package com.tasks.taskmanagement.domain.repository;
 
 import com.tasks.taskmanagement.domain.entity.Task;
 import com.tasks.taskmanagement.domain.valueobject.IPage;
+import com.tasks.taskmanagement.domain.valueobject.IdRange;
+import com.tasks.taskmanagement.domain.valueobject.TaskDeadline;
+import com.tasks.taskmanagement.domain.valueobject.TaskDeletion;
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+import com.tasks.taskmanagement.domain.valueobject.TaskState;
 import com.tasks.taskmanagement.domain.valueobject.IPageable;
 import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * The TaskRepository interface defines methods for managing tasks in a repository.
@@ -22,12 +29,96 @@ public interface TaskRepository {
     void delete(Task task);
 
     /**
-     * Delete all tasks from the repository.
+     * Delete a task with a single statement if its status is one of the given ones and,
+     * if an expected version is given, if the task still has that version.
+     *
+     * @param id              The ID of the task to delete.
+     * @param statuses        The statuses the deleted task may have.
+     * @param expectedVersion The version the task must have, or null to delete any version.
+     * @return The number of deleted tasks, 0 if the task does not exist, has another status or another version.
+     */
+    int deleteByIdAndStatusIn(Long id, Collection<TaskStatus> statuses, Long expectedVersion);
+
+    /**
+     * Find the status and version of a task without loading it.
+     *
+     * @param id The ID of the task.
+     * @return The state of the task, empty if the task does not exist.
+     */
+    Optional<TaskState> findStateById(Long id);
+
+    /**
+     * Find the status and version of several tasks without loading them.
+     *
+     * @param ids The IDs of the tasks.
+     * @return The states of the existing tasks, in no particular order.
      */
-    void deleteAll();
+    List<TaskState> findStatesByIds(Collection<Long> ids);
+
+    /**
+     * Delete all tasks from the repository with a single bulk statement.
+     *
+     * @return The number of deleted tasks.
+     */
+    long deleteAll();
+
+    /**
+     * Delete one chunk of the tasks matching a filter whose status is one of the given ones,
+     * in a transaction of its own.
+     *
+     * @param filter    The filter selecting the tasks.
+     * @param statuses  The statuses the deleted tasks may have.
+     * @param chunkSize The maximum number of tasks to delete.
+     * @return The selected IDs and the number of deleted tasks; no selected IDs once nothing matches any more.
+     */
+    TaskDeletion deleteChunk(TaskFilter filter, Collection<TaskStatus> statuses, int chunkSize);
+
+    /**
+     * Count the tasks matching a filter whose status is one of the given ones.
+     *
+     * @param filter   The filter selecting the tasks.
+     * @param statuses The statuses the tasks may have.
+     * @return The number of matching tasks.
+     */
+    long count(TaskFilter filter, Collection<TaskStatus> statuses);
+
+    /**
+     * Lock the first tasks of an ID range matching a filter whose status is one of the given ones, in ID order,
+     * until the end of the transaction, and read their states. A bulk status update then records and updates
+     * exactly these tasks, as no concurrent write can change them in between.
+     *
+     * @param filter   The filter selecting the tasks.
+     * @param statuses The statuses the tasks may have.
+     * @param fromId   The lowest ID of the tasks (inclusive).
+     * @param toId     The highest ID of the tasks (inclusive).
+     * @param limit    The maximum number of tasks.
+     * @return The states of the locked tasks.
+     */
+    List<TaskState> lockStates(TaskFilter filter, Collection<TaskStatus> statuses, long fromId, long toId, int limit);
+
+    /**
+     * Lock the given tasks matching a filter whose status is one of the given ones until the end of the transaction,
+     * and read their states.
+     *
+     * @param ids      The IDs of the tasks.
+     * @param filter   The filter selecting the tasks.
+     * @param statuses The statuses the tasks may have.
+     * @return The states of the locked tasks.
+     */
+    List<TaskState> lockStatesByIds(Collection<Long> ids, TaskFilter filter, Collection<TaskStatus> statuses);
+
+    /**
+     * Pass every task matching a filter to an action, in ID order, without loading them all at once.
+     *
+     * @param filter The filter selecting the tasks.
+     * @param action The action to apply to each task.
+     * @return The number of tasks passed to the action.
+     */
+    long forEach(TaskFilter filter, Consumer<Task> action);
 
     /**
      * Find all tasks in the repository with pagination.
+     * If the pageable carries a cursor, keyset pagination ordered by ID is used instead of offsets.
      *
      * @param pageable The pagination information.
      * @return A paginated list of tasks.
@@ -42,6 +133,14 @@ public interface TaskRepository {
      */
     Optional<Task> findById(Long id);
 
+    /**
+     * Find several tasks by their IDs with IN queries, as tasks that may be changed and saved.
+     *
+     * @param ids The IDs of the tasks.
+     * @return The existing tasks, in no particular order.
+     */
+    List<Task> findAllByIds(Collection<Long> ids);
+
     /**
      * Save a task in the repository.
      *
@@ -67,6 +166,7 @@ public interface TaskRepository {
 
     /**
      * Find tasks in the repository by their status with pagination.
+     * If the pageable carries a cursor, keyset pagination ordered by ID is used instead of offsets.
      *
      * @param pageable The pagination information.
      * @param status   The status to filter tasks by.
@@ -85,13 +185,32 @@ public interface TaskRepository {
     List<Task> findByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime currentTime, int count);
 
     /**
-     * Updates the status of tasks that meet the specified criteria.
+     * Finds the range of IDs of the tasks with the specified status and due date/time before a specified time.
      *
-     * @param oldStatus        The old status of tasks to be updated.
-     * @param newStatus        The new status to set for the tasks.
+     * @param status           The status to filter tasks by.
      * @param currentTimestamp The timestamp used for comparison with the dueDateTime field of tasks.
+     * @return The range of IDs of the matching tasks, empty if there are none.
+     */
+    IdRange findIdRangeByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime currentTimestamp);
+
+    /**
+     * Finds the deadlines of the tasks with the specified status and due date/time before a specified time.
+     *
+     * @param status The status to filter tasks by.
+     * @param until  The time the due date/time of the tasks must be before.
+     * @return The IDs and due date/times of the matching tasks.
+     */
+    List<TaskDeadline> findDeadlinesByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime until);
+
+    /**
+     * Moves the given tasks to a new status if their status is still one of the given ones.
+     *
+     * @param ids                The IDs of the tasks to update.
+     * @param oldStatuses        The statuses the updated tasks may have.
+     * @param newStatus          The new status to set for the tasks.
+     * @param completionDateTime The completion date-time to set, or null to keep the current one.
+     * @return The number of updated tasks.
      */
-    void updateStatusForDueDateTimeAndOldStatus(TaskStatus oldStatus,
-                                               TaskStatus newStatus,
-                                               LocalDateTime currentTimestamp);
+    int updateStatus(Collection<Long> ids, Collection<TaskStatus> oldStatuses, TaskStatus newStatus,
+                     LocalDateTime completionDateTime);
 }
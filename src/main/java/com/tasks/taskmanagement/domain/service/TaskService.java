@@ -2,14 +2,25 @@ package com.tasks.taskmanagement.domain.service;
 
 import com.tasks.taskmanagement.domain.entity.Task;
 import com.tasks.taskmanagement.domain.valueobject.IPage;
+import com.tasks.taskmanagement.domain.valueobject.IdRange;
+import com.tasks.taskmanagement.domain.valueobject.TaskDeadline;
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+import com.tasks.taskmanagement.domain.valueobject.TaskOperation;
+import com.tasks.taskmanagement.domain.valueobject.TaskOperationResult;
+import com.tasks.taskmanagement.domain.valueobject.TaskRejection;
 import com.tasks.taskmanagement.domain.valueobject.IPageable;
 import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransitionChunk;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * The TaskService interface defines methods for managing tasks in a service layer.
@@ -23,13 +34,53 @@ public interface TaskService {
      */
     void delete(Task task);
 
+    /**
+     * Delete a task by its ID with a single conditional statement.
+     *
+     * @param id The ID of the task to delete.
+     * @throws jakarta.persistence.EntityNotFoundException if the task does not exist.
+     * @throws RuntimeException if the task is rejected by the delete validators.
+     */
+    void deleteById(Long id);
+
+    /**
+     * Delete a task by its ID with a single conditional statement, if it still has the expected version.
+     *
+     * @param id              The ID of the task to delete.
+     * @param expectedVersion The version the task must have, or null to delete any version.
+     * @throws jakarta.persistence.EntityNotFoundException if the task does not exist.
+     * @throws RuntimeException if the task has another version or is rejected by the delete validators.
+     */
+    void deleteById(Long id, Long expectedVersion);
+
     /**
      * Delete all tasks.
+     *
+     * @return The number of deleted tasks.
      */
-    void deleteAll();
+    long deleteAll();
+
+    /**
+     * Delete the tasks matching a filter in bounded chunks.
+     * Tasks with a status rejected by the delete validators are kept.
+     *
+     * @param filter The filter selecting the tasks.
+     * @return The number of deleted tasks.
+     */
+    long deleteAll(TaskFilter filter);
+
+    /**
+     * Pass every task matching a filter to an action, in ID order, without loading them all at once.
+     *
+     * @param filter The filter selecting the tasks.
+     * @param action The action to apply to each task.
+     * @return The number of tasks passed to the action.
+     */
+    long forEach(TaskFilter filter, Consumer<Task> action);
 
     /**
      * Find all tasks with pagination.
+     * If the pageable carries a cursor, keyset pagination ordered by ID is used instead of offsets.
      *
      * @param pageable The pagination information.
      * @return A paginated list of tasks.
@@ -52,6 +103,20 @@ public interface TaskService {
      */
     Task save(Task task);
 
+    /**
+     * Update a task in a single transaction: load it, check the update rules and then its version,
+     * apply the changes and check the result with the save rules.
+     * Nothing is written when the changes leave the task as it was.
+     *
+     * @param id              The ID of the task to update.
+     * @param expectedVersion The version the task must have, or null to update any version.
+     * @param mutator         The changes to apply to the task, returning the names of the changed fields.
+     * @return The updated task.
+     * @throws jakarta.persistence.EntityNotFoundException if the task does not exist.
+     * @throws RuntimeException if the task has another version or is rejected by the validators.
+     */
+    Task update(Long id, Long expectedVersion, Function<Task, Set<String>> mutator);
+
     /**
      * Save a list of tasks.
      *
@@ -60,6 +125,25 @@ public interface TaskService {
      */
     List<Task> saveAll(Iterable<Task> tasks);
 
+    /**
+     * Validate a batch of tasks with the save validators and save those passing, in a single transaction.
+     *
+     * @param tasks The tasks to be saved.
+     * @return The tasks rejected by the validators, by position in the batch.
+     */
+    List<TaskRejection> saveAllValid(List<Task> tasks);
+
+    /**
+     * Execute a batch of create, patch and delete operations in a single transaction.
+     * Every operation is checked first; an all-or-nothing batch then applies nothing if any operation failed,
+     * while a best-effort batch applies the operations that passed.
+     *
+     * @param operations The operations, in order.
+     * @param atomic     Whether the batch is all-or-nothing.
+     * @return The result of each operation, in the same order.
+     */
+    List<TaskOperationResult> executeAll(List<TaskOperation> operations, boolean atomic);
+
     /**
      * Create a new task entity instance.
      *
@@ -69,6 +153,7 @@ public interface TaskService {
 
     /**
      * Find tasks by their status with pagination.
+     * If the pageable carries a cursor, keyset pagination ordered by ID is used instead of offsets.
      *
      * @param pageable The pagination information.
      * @param status   The status to filter tasks by.
@@ -87,13 +172,69 @@ public interface TaskService {
     List<Task> findByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime currentTime, int count);
 
     /**
-     * Updates the status of tasks that meet the specified criteria.
+     * Finds the range of IDs of the tasks with the specified status and due date/time before a specified time.
+     *
+     * @param status           The status to filter tasks by.
+     * @param currentTimestamp The timestamp used for comparison with the dueDateTime field of tasks.
+     * @return The range of IDs of the matching tasks, empty if there are none.
+     */
+    IdRange findIdRangeByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime currentTimestamp);
+
+    /**
+     * Updates the status of tasks that meet the specified criteria, limited to a range of IDs.
      *
      * @param oldStatus        The old status of tasks to be updated.
      * @param newStatus        The new status to set for the tasks.
      * @param currentTimestamp The timestamp used for comparison with the dueDateTime field of tasks.
+     * @param idRange          The range of IDs to update.
+     * @return The number of updated tasks.
      */
-    void updateStatusForDueDateTimeAndOldStatus(TaskStatus oldStatus,
+    int updateStatusForDueDateTimeAndOldStatus(TaskStatus oldStatus,
                                                TaskStatus newStatus,
-                                               LocalDateTime currentTimestamp);
+                                               LocalDateTime currentTimestamp,
+                                               IdRange idRange);
+
+    /**
+     * Finds the deadlines of the tasks with the specified status and due date/time before a specified time.
+     *
+     * @param status The status to filter tasks by.
+     * @param until  The time the due date/time of the tasks must be before.
+     * @return The IDs and due date/times of the matching tasks.
+     */
+    List<TaskDeadline> findDeadlinesByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime until);
+
+    /**
+     * Updates the status of the given tasks if they still meet the specified criteria.
+     *
+     * @param oldStatus        The old status of tasks to be updated.
+     * @param newStatus        The new status to set for the tasks.
+     * @param currentTimestamp The timestamp used for comparison with the dueDateTime field of tasks.
+     * @param ids              The IDs of the tasks to update.
+     * @return The number of updated tasks.
+     */
+    int updateStatusForDueDateTimeAndOldStatus(TaskStatus oldStatus,
+                                               TaskStatus newStatus,
+                                               LocalDateTime currentTimestamp,
+                                               Collection<Long> ids);
+
+    /**
+     * Count the tasks matching a filter that a transition to a status would move.
+     *
+     * @param filter    The filter selecting the tasks.
+     * @param newStatus The status to move the tasks to.
+     * @return The number of tasks the transition would move.
+     * @throws RuntimeException if no task matching the filter may be moved to the status.
+     */
+    long countForTransition(TaskFilter filter, TaskStatus newStatus);
+
+    /**
+     * Move one chunk of the tasks matching a filter to a status, in a transaction of its own.
+     *
+     * @param filter    The filter selecting the tasks.
+     * @param newStatus The status to move the tasks to.
+     * @param afterId   The ID after which the chunk starts.
+     * @param chunkSize The maximum number of tasks to move.
+     * @return The selected IDs and the number of moved tasks; no selected IDs once nothing matches any more.
+     */
+    TaskTransitionChunk transitionChunk(TaskFilter filter, TaskStatus newStatus, long afterId, int chunkSize);
 }
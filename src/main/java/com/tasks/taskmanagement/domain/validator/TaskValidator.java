@@ -1,6 +1,9 @@
 package com.tasks.taskmanagement.domain.validator;
 
 import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+
+import java.util.Set;
 
 /**
  * The TaskValidator interface defines a contract for validating tasks.
@@ -14,4 +17,14 @@ public interface TaskValidator {
      * @throws RuntimeException if the task fails validation.
      */
     void validate(Task task);
+
+    /**
+     * Get the statuses this validator rejects whatever the other fields of the task,
+     * so bulk operations can apply it as a predicate on the status column.
+     *
+     * @return The rejected statuses, empty if the validator does not reject by status alone.
+     */
+    default Set<TaskStatus> getRejectedStatuses() {
+        return Set.of();
+    }
 }
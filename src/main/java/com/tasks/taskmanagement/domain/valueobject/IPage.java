@@ -9,6 +9,11 @@ import java.util.List;
  */
 public interface IPage<T> {
 
+    /**
+     * The total number of elements reported when the total was not computed.
+     */
+    long UNKNOWN_TOTAL = -1;
+
     /**
      * Get the list of content elements in the page.
      *
@@ -26,7 +31,7 @@ public interface IPage<T> {
     /**
      * Get the total number of elements across all pages.
      *
-     * @return The total number of elements.
+     * @return The total number of elements, or {@link #UNKNOWN_TOTAL} if it was not computed.
      */
     long getTotalElements();
 
@@ -64,4 +69,32 @@ public interface IPage<T> {
      * @param size The maximum number of elements per page.
      */
     void setSize(int size);
+
+    /**
+     * Check whether there is a page after this one.
+     *
+     * @return True if there is a next page, false otherwise.
+     */
+    boolean isHasNext();
+
+    /**
+     * Set whether there is a page after this one.
+     *
+     * @param hasNext True if there is a next page, false otherwise.
+     */
+    void setHasNext(boolean hasNext);
+
+    /**
+     * Get the cursor to pass as "after" to fetch the next page with keyset pagination.
+     *
+     * @return The cursor of the last element, or null if there is no next page or offsets were used.
+     */
+    String getNextCursor();
+
+    /**
+     * Set the cursor to pass as "after" to fetch the next page with keyset pagination.
+     *
+     * @param nextCursor The cursor of the last element.
+     */
+    void setNextCursor(String nextCursor);
 }
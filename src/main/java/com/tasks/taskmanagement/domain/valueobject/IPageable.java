@@ -32,4 +32,34 @@ public interface IPageable {
      * @param size The maximum number of elements per page.
      */
     void setSize(int size);
+
+    /**
+     * Get the opaque cursor of the last element of the previous page.
+     * When present (an empty string starts from the beginning), keyset pagination is used instead of offsets.
+     *
+     * @return The cursor, or null for offset-based pagination.
+     */
+    String getAfter();
+
+    /**
+     * Set the opaque cursor of the last element of the previous page.
+     *
+     * @param after The cursor, or null for offset-based pagination.
+     */
+    void setAfter(String after);
+
+    /**
+     * Check whether the total number of elements should be computed.
+     * Without it only "has next" is answered and the count query is skipped.
+     *
+     * @return True if the total should be computed, false otherwise.
+     */
+    boolean isWithTotal();
+
+    /**
+     * Set whether the total number of elements should be computed.
+     *
+     * @param withTotal True if the total should be computed, false otherwise.
+     */
+    void setWithTotal(boolean withTotal);
 }
@@ -0,0 +1,20 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+/**
+ * The IdRange record represents an inclusive range of task IDs, used to split bulk work into bounded chunks.
+ * Both bounds are null when the range is empty.
+ *
+ * @param fromId The lowest ID of the range (inclusive).
+ * @param toId   The highest ID of the range (inclusive).
+ */
+public record IdRange(Long fromId, Long toId) {
+
+    /**
+     * Check whether the range contains no IDs.
+     *
+     * @return True if the range is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return fromId == null || toId == null || fromId > toId;
+    }
+}
@@ -1,5 +1,7 @@
 package com.tasks.taskmanagement.domain.valueobject;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,6 +16,8 @@ public class PageImpl<T> implements IPage<T> {
     private long totalElements;
     private int number;
     private int size;
+    private boolean hasNext;
+    private String nextCursor;
 
     /**
      * Constructs a PageImpl<T> instance with the specified content, total elements, page number, and size.
@@ -28,6 +32,7 @@ public class PageImpl<T> implements IPage<T> {
         this.totalElements = totalElements;
         this.number = number;
         this.size = size;
+        this.hasNext = (long) (number + 1) * size < totalElements;
     }
 
     /**
@@ -61,11 +66,12 @@ public class PageImpl<T> implements IPage<T> {
     }
 
     /**
-     * Get the total number of elements across all pages.
+     * Get the total number of elements across all pages, left out of the JSON when it was not computed.
      *
-     * @return The total number of elements.
+     * @return The total number of elements, or {@link IPage#UNKNOWN_TOTAL} if it was not computed.
      */
     @Override
+    @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = UnknownTotalFilter.class)
     public long getTotalElements() {
         return totalElements;
     }
@@ -119,4 +125,60 @@ public class PageImpl<T> implements IPage<T> {
     public void setSize(int size) {
         this.size = size;
     }
+
+    /**
+     * Check whether there is a page after this one.
+     *
+     * @return True if there is a next page, false otherwise.
+     */
+    @Override
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    /**
+     * Set whether there is a page after this one.
+     *
+     * @param hasNext True if there is a next page, false otherwise.
+     */
+    @Override
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Get the cursor to pass as "after" to fetch the next page with keyset pagination.
+     *
+     * @return The cursor of the last element, or null if there is no next page or offsets were used.
+     */
+    @Override
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Set the cursor to pass as "after" to fetch the next page with keyset pagination.
+     *
+     * @param nextCursor The cursor of the last element.
+     */
+    @Override
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Jackson value filter excluding the unknown total: a value equal to an instance of it is left out.
+     */
+    static final class UnknownTotalFilter {
+
+        @Override
+        public boolean equals(Object value) {
+            return value instanceof Long total && total == UNKNOWN_TOTAL;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(UNKNOWN_TOTAL);
+        }
+    }
 }
@@ -7,6 +7,8 @@ public class PageableImpl implements IPageable {
 
     private int page;
     private int size;
+    private String after;
+    private boolean withTotal = true;
 
     /**
      * Constructs a PageableImpl instance with the specified page number and size.
@@ -19,6 +21,31 @@ public class PageableImpl implements IPageable {
         this.size = size;
     }
 
+    /**
+     * Constructs a PageableImpl instance for keyset pagination continuing after the given cursor.
+     *
+     * @param page  The page number (0-based).
+     * @param size  The maximum number of elements per page.
+     * @param after The cursor of the last element of the previous page.
+     */
+    public PageableImpl(int page, int size, String after) {
+        this(page, size);
+        this.after = after;
+    }
+
+    /**
+     * Constructs a PageableImpl instance with the specified cursor and total computation mode.
+     *
+     * @param page      The page number (0-based).
+     * @param size      The maximum number of elements per page.
+     * @param after     The cursor of the last element of the previous page, or null for offsets.
+     * @param withTotal Whether the total number of elements should be computed.
+     */
+    public PageableImpl(int page, int size, String after, boolean withTotal) {
+        this(page, size, after);
+        this.withTotal = withTotal;
+    }
+
     /**
      * Get the page number (0-based).
      *
@@ -58,4 +85,44 @@ public class PageableImpl implements IPageable {
     public void setSize(int size) {
         this.size = size;
     }
+
+    /**
+     * Get the opaque cursor of the last element of the previous page.
+     *
+     * @return The cursor, or null for offset-based pagination.
+     */
+    @Override
+    public String getAfter() {
+        return after;
+    }
+
+    /**
+     * Set the opaque cursor of the last element of the previous page.
+     *
+     * @param after The cursor, or null for offset-based pagination.
+     */
+    @Override
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    /**
+     * Check whether the total number of elements should be computed.
+     *
+     * @return True if the total should be computed, false otherwise.
+     */
+    @Override
+    public boolean isWithTotal() {
+        return withTotal;
+    }
+
+    /**
+     * Set whether the total number of elements should be computed.
+     *
+     * @param withTotal True if the total should be computed, false otherwise.
+     */
+    @Override
+    public void setWithTotal(boolean withTotal) {
+        this.withTotal = withTotal;
+    }
 }
@@ -0,0 +1,26 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+import java.util.List;
+
+/**
+ * The SliceImpl<T> class is a variant of PageImpl<T> for pages fetched without counting all elements.
+ * It only answers whether there is a next page and reports the total as {@link IPage#UNKNOWN_TOTAL},
+ * which is left out of the JSON.
+ *
+ * @param <T> The type of elements in the slice.
+ */
+public class SliceImpl<T> extends PageImpl<T> {
+
+    /**
+     * Constructs a SliceImpl<T> instance with the specified content, next page flag, page number, and size.
+     *
+     * @param content The list of content elements.
+     * @param hasNext Whether there is a page after this one.
+     * @param number  The current page number (0-based).
+     * @param size    The maximum number of elements per page.
+     */
+    public SliceImpl(List<T> content, boolean hasNext, int number, int size) {
+        super(content, UNKNOWN_TOTAL, number, size);
+        setHasNext(hasNext);
+    }
+}
@@ -0,0 +1,46 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+import com.tasks.taskmanagement.domain.exception.InvalidTaskCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * The TaskCursor class encodes and decodes the opaque cursors used for keyset pagination.
+ * A cursor identifies the last task of a page by its ID, so the next page can be fetched
+ * with "id > cursor" instead of skipping an offset.
+ */
+public final class TaskCursor {
+
+    private TaskCursor() {
+    }
+
+    /**
+     * Encode the ID of the last task of a page into an opaque cursor.
+     *
+     * @param id The ID of the last task of the page.
+     * @return The opaque cursor.
+     */
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode an opaque cursor into the ID of the last task of the previous page.
+     *
+     * @param cursor The opaque cursor.
+     * @return The decoded ID, or null if the cursor is blank and pagination starts from the beginning.
+     * @throws InvalidTaskCursorException if the provided cursor is invalid.
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidTaskCursorException(cursor, ex);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+import java.time.LocalDateTime;
+
+/**
+ * The TaskDeadline record pairs the ID of a task with its due date and time.
+ *
+ * @param id          The ID of the task.
+ * @param dueDateTime The due date and time of the task.
+ */
+public record TaskDeadline(Long id, LocalDateTime dueDateTime) {
+}
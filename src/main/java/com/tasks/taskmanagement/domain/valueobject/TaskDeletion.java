@@ -0,0 +1,23 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+import java.util.List;
+
+/**
+ * The TaskDeletion record describes one chunk of a bulk delete.
+ * The candidate IDs are the tasks selected for the chunk; tasks changed concurrently to a status
+ * that may not be deleted are among them but not counted as deleted.
+ *
+ * @param candidateIds The IDs of the tasks selected for deletion.
+ * @param deleted      The number of tasks actually deleted.
+ */
+public record TaskDeletion(List<Long> candidateIds, int deleted) {
+
+    /**
+     * Check whether the chunk selected no tasks, which ends the bulk delete.
+     *
+     * @return True if no task was selected, false otherwise.
+     */
+    public boolean isEmpty() {
+        return candidateIds.isEmpty();
+    }
+}
@@ -0,0 +1,23 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+import java.time.LocalDateTime;
+
+/**
+ * The TaskFilter record selects tasks by status and due date-time range for bulk operations.
+ * Every criterion is optional; a null criterion matches all tasks.
+ *
+ * @param status  The status of the tasks.
+ * @param dueFrom The lowest due date-time of the tasks (inclusive).
+ * @param dueTo   The highest due date-time of the tasks (exclusive).
+ */
+public record TaskFilter(TaskStatus status, LocalDateTime dueFrom, LocalDateTime dueTo) {
+
+    /**
+     * Check whether the filter has no criteria and therefore matches all tasks.
+     *
+     * @return True if no criterion is set, false otherwise.
+     */
+    public boolean isEmpty() {
+        return status == null && dueFrom == null && dueTo == null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+import com.tasks.taskmanagement.domain.entity.Task;
+
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The TaskOperation record is one create, patch or delete of a batch of operations.
+ * The mutator of a create or patch changes the given task and returns the names of the changed fields,
+ * as for a single update; it may throw a TaskValidationException to reject the operation.
+ *
+ * @param type            The kind of operation.
+ * @param taskId          The ID of the task to patch or delete, null for a create.
+ * @param expectedVersion The version the task must have, or null for any version.
+ * @param mutator         The changes to apply to the task, null for a delete.
+ */
+public record TaskOperation(Type type, Long taskId, Long expectedVersion, Function<Task, Set<String>> mutator) {
+
+    /**
+     * The kinds of operation.
+     */
+    public enum Type {
+        CREATE, PATCH, DELETE
+    }
+
+    public static TaskOperation create(Function<Task, Set<String>> mutator) {
+        return new TaskOperation(Type.CREATE, null, null, mutator);
+    }
+
+    public static TaskOperation patch(Long taskId, Long expectedVersion, Function<Task, Set<String>> mutator) {
+        return new TaskOperation(Type.PATCH, taskId, expectedVersion, mutator);
+    }
+
+    public static TaskOperation delete(Long taskId, Long expectedVersion) {
+        return new TaskOperation(Type.DELETE, taskId, expectedVersion, null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+import com.tasks.taskmanagement.domain.entity.Task;
+
+/**
+ * The TaskOperationResult record is the outcome of one operation of a batch.
+ *
+ * @param index   The position of the operation in the batch.
+ * @param outcome What happened to the operation.
+ * @param taskId  The ID of the task, null for a create that was not applied.
+ * @param task    The created or updated task, null otherwise.
+ * @param message Why the operation was not applied, null if it was.
+ */
+public record TaskOperationResult(int index, Outcome outcome, Long taskId, Task task, String message) {
+
+    /**
+     * The outcomes of an operation.
+     */
+    public enum Outcome {
+        CREATED, UPDATED, UNCHANGED, DELETED,
+        NOT_FOUND, CONFLICT, REJECTED,
+        /** The operation was valid, but the batch was all-or-nothing and another operation failed. */
+        ABORTED;
+
+        public boolean isFailure() {
+            return this == NOT_FOUND || this == CONFLICT || this == REJECTED;
+        }
+    }
+
+    public static TaskOperationResult applied(int index, Outcome outcome, Long taskId, Task task) {
+        return new TaskOperationResult(index, outcome, taskId, task, null);
+    }
+
+    public static TaskOperationResult failed(int index, Outcome outcome, Long taskId, String message) {
+        return new TaskOperationResult(index, outcome, taskId, null, message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+/**
+ * The TaskRejection record describes a task of a batch that failed validation and was not saved.
+ *
+ * @param index   The position of the task in the batch.
+ * @param message The validation error.
+ */
+public record TaskRejection(int index, String message) {
+}
@@ -0,0 +1,11 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+/**
+ * The TaskState record holds the status and version of a task, read without loading the whole task.
+ *
+ * @param id      The ID of the task.
+ * @param status  The status of the task.
+ * @param version The version of the task.
+ */
+public record TaskState(Long id, TaskStatus status, Long version) {
+}
@@ -0,0 +1,15 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+import java.time.LocalDateTime;
+
+/**
+ * The TaskTransition record is a value object for a change of the status of a task.
+ *
+ * @param id         The position of the transition in the outbox.
+ * @param taskId     The ID of the task.
+ * @param oldStatus  The status the task had, or null for a new task.
+ * @param newStatus  The status the task has.
+ * @param occurredAt The database time of the transition.
+ */
+public record TaskTransition(long id, Long taskId, TaskStatus oldStatus, TaskStatus newStatus, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,32 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+import java.util.List;
+
+/**
+ * The TaskTransitionChunk record describes one chunk of a bulk status transition.
+ * The candidate IDs are the tasks selected for the chunk, in ID order; tasks changed concurrently to a status
+ * that may not be moved are among them but not counted as updated.
+ *
+ * @param candidateIds The IDs of the tasks selected for the transition.
+ * @param updated      The number of tasks actually updated.
+ */
+public record TaskTransitionChunk(List<Long> candidateIds, int updated) {
+
+    /**
+     * Check whether the chunk selected no tasks, which ends the transition.
+     *
+     * @return True if no task was selected, false otherwise.
+     */
+    public boolean isEmpty() {
+        return candidateIds.isEmpty();
+    }
+
+    /**
+     * Get the highest selected ID, after which the next chunk starts.
+     *
+     * @return The last candidate ID.
+     */
+    public long lastId() {
+        return candidateIds.get(candidateIds.size() - 1);
+    }
+}
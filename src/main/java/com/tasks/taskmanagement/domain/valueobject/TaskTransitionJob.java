@@ -0,0 +1,37 @@
+package com.tasks.taskmanagement.domain.valueobject;
+
+import java.time.LocalDateTime;
+
+/**
+ * The TaskTransitionJob record is the progress of an asynchronous job moving the tasks matching a filter
+ * to a target status.
+ *
+ * @param id           The ID of the job.
+ * @param filter       The filter selecting the tasks.
+ * @param targetStatus The status the tasks are moved to.
+ * @param state        The state of the job.
+ * @param total        The number of tasks that could be moved when the job was submitted.
+ * @param updated      The number of tasks moved so far.
+ * @param error        Why the job failed, null otherwise.
+ * @param createdAt    When the job was submitted.
+ * @param startedAt    When the job started, null while queued.
+ * @param finishedAt   When the job finished, null while queued or running.
+ */
+public record TaskTransitionJob(Long id,
+                                TaskFilter filter,
+                                TaskStatus targetStatus,
+                                State state,
+                                long total,
+                                long updated,
+                                String error,
+                                LocalDateTime createdAt,
+                                LocalDateTime startedAt,
+                                LocalDateTime finishedAt) {
+
+    /**
+     * The states of a job.
+     */
+    public enum State {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+}
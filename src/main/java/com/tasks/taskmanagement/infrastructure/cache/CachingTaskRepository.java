@@ -0,0 +1,359 @@
+package com.tasks.taskmanagement.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tasks.taskmanagement.application.spring.service.changetracking.TaskChangeTracker;
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.entity.TaskImpl;
+import com.tasks.taskmanagement.domain.repository.TaskRepository;
+import com.tasks.taskmanagement.domain.valueobject.IPage;
+import com.tasks.taskmanagement.domain.valueobject.IPageable;
+import com.tasks.taskmanagement.domain.valueobject.PageImpl;
+import com.tasks.taskmanagement.domain.valueobject.IdRange;
+import com.tasks.taskmanagement.domain.valueobject.TaskDeadline;
+import com.tasks.taskmanagement.domain.valueobject.TaskDeletion;
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+import com.tasks.taskmanagement.domain.valueobject.TaskState;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.infrastructure.persistence.jpa.adapter.JpaTaskRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.Consumer;
+
+/**
+ * Decorator of the TaskRepository that caches the tasks looked up by ID in a size- and time-bounded Caffeine cache.
+ * The cache holds detached copies, and every hit returns a new copy, so callers may modify the returned task freely.
+ * Saved, deleted and bulk-updated tasks are evicted right away and again once the transaction completes,
+ * so a task never keeps a status that has been changed in the database.
+ * List pages are cached as well, keyed on the status filter, the pagination and the change counter of the status
+ * kept by the TaskChangeTracker: writes move the counters of the statuses they touch, so only the pages of those
+ * statuses are recomputed.
+ * Hit, miss and eviction counts are exposed as the "tasks.byId" and "tasks.pages" cache metrics.
+ * Writes are also appended to the TaskInvalidationLog, for the caches of the other nodes.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "taskcache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingTaskRepository implements TaskRepository {
+
+    private final TaskRepository delegate;
+    private final TaskInvalidationLog invalidationLog;
+    private final Cache<Long, Task> tasksById;
+    private final Cache<PageKey, IPage<Task>> pages;
+    private final TaskChangeTracker taskChangeTracker;
+
+    @Autowired
+    public CachingTaskRepository(JpaTaskRepositoryAdapter delegate,
+                                 TaskInvalidationLog invalidationLog,
+                                 TaskChangeTracker taskChangeTracker,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${taskcache.maximum-size:10000}") long maximumSize,
+                                 @Value("${taskcache.pages.maximum-size:1000}") long pagesMaximumSize,
+                                 @Value("${taskcache.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.invalidationLog = invalidationLog;
+        this.taskChangeTracker = taskChangeTracker;
+        this.tasksById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(pagesMaximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tasksById, "tasks.byId");
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "tasks.pages");
+    }
+
+    /**
+     * Find a task by its ID, from the cache if present.
+     * Lookups inside a read-write transaction bypass the cache, as they may see uncommitted changes.
+     *
+     * @param id The ID of the task to retrieve.
+     * @return A copy of the task with the given ID.
+     */
+    @Override
+    public Optional<Task> findById(Long id) {
+        if (isReadWriteTransaction()) {
+            return delegate.findById(id);
+        }
+        Task cached = tasksById.get(id, key -> delegate.findById(key).map(CachingTaskRepository::copyOf).orElse(null));
+        return Optional.ofNullable(cached).map(CachingTaskRepository::copyOf);
+    }
+
+    /**
+     * Find several tasks by their IDs, always from the delegate: the tasks are meant to be changed and saved,
+     * so they must be the entities of the current transaction, not copies.
+     *
+     * @param ids The IDs of the tasks.
+     * @return The existing tasks.
+     */
+    @Override
+    public List<Task> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public void delete(Task task) {
+        Set<TaskStatus> statuses = statusesOf(List.of(task));
+        delegate.delete(task);
+        evict(() -> tasksById.invalidate(task.getId()));
+        bump(statuses);
+        invalidationLog.append(List.of(task.getId()), statuses);
+    }
+
+    @Override
+    public int deleteByIdAndStatusIn(Long id, Collection<TaskStatus> statuses, Long expectedVersion) {
+        int deleted = delegate.deleteByIdAndStatusIn(id, statuses, expectedVersion);
+        evict(() -> tasksById.invalidate(id));
+        if (deleted > 0) {
+            bump(statuses);
+            invalidationLog.append(List.of(id), statuses);
+        }
+        return deleted;
+    }
+
+    @Override
+    public Optional<TaskState> findStateById(Long id) {
+        return delegate.findStateById(id);
+    }
+
+    @Override
+    public List<TaskState> findStatesByIds(Collection<Long> ids) {
+        return delegate.findStatesByIds(ids);
+    }
+
+    @Override
+    public long deleteAll() {
+        long deleted = delegate.deleteAll();
+        evict(tasksById::invalidateAll);
+        bump(EnumSet.allOf(TaskStatus.class));
+        invalidationLog.append(List.of(), EnumSet.allOf(TaskStatus.class));
+        return deleted;
+    }
+
+    @Override
+    public TaskDeletion deleteChunk(TaskFilter filter, Collection<TaskStatus> statuses, int chunkSize) {
+        TaskDeletion deletion = delegate.deleteChunk(filter, statuses, chunkSize);
+        evict(() -> tasksById.invalidateAll(deletion.candidateIds()));
+        if (deletion.deleted() > 0) {
+            Collection<TaskStatus> deleted = filter.status() != null ? List.of(filter.status()) : statuses;
+            bump(deleted);
+            invalidationLog.append(List.of(), deleted);
+        }
+        return deletion;
+    }
+
+    @Override
+    public long count(TaskFilter filter, Collection<TaskStatus> statuses) {
+        return delegate.count(filter, statuses);
+    }
+
+    @Override
+    public List<TaskState> lockStates(TaskFilter filter, Collection<TaskStatus> statuses, long fromId, long toId, int limit) {
+        return delegate.lockStates(filter, statuses, fromId, toId, limit);
+    }
+
+    @Override
+    public List<TaskState> lockStatesByIds(Collection<Long> ids, TaskFilter filter, Collection<TaskStatus> statuses) {
+        return delegate.lockStatesByIds(ids, filter, statuses);
+    }
+
+    @Override
+    public int updateStatus(Collection<Long> ids, Collection<TaskStatus> oldStatuses, TaskStatus newStatus,
+                            LocalDateTime completionDateTime) {
+        int updated = delegate.updateStatus(ids, oldStatuses, newStatus, completionDateTime);
+        if (updated > 0) {
+            List<Long> evicted = new ArrayList<>(ids);
+            List<TaskStatus> statuses = new ArrayList<>(oldStatuses);
+            statuses.add(newStatus);
+            evict(() -> tasksById.invalidateAll(evicted));
+            bump(statuses);
+            invalidationLog.append(List.of(), statuses);
+        }
+        return updated;
+    }
+
+    @Override
+    public long forEach(TaskFilter filter, Consumer<Task> action) {
+        return delegate.forEach(filter, action);
+    }
+
+    @Override
+    public Task save(Task task) {
+        Set<TaskStatus> statuses = statusesOf(List.of(task));
+        Task saved = delegate.save(task);
+        evict(() -> tasksById.invalidate(saved.getId()));
+        bump(statuses);
+        invalidationLog.append(List.of(saved.getId()), statuses);
+        return saved;
+    }
+
+    @Override
+    public List<Task> saveAll(Iterable<Task> tasks) {
+        List<Task> toSave = new ArrayList<>();
+        tasks.forEach(toSave::add);
+        Set<TaskStatus> statuses = statusesOf(toSave);
+        List<Task> saved = delegate.saveAll(toSave);
+        List<Long> ids = saved.stream().map(Task::getId).toList();
+        evict(() -> tasksById.invalidateAll(ids));
+        bump(statuses);
+        invalidationLog.append(ids, statuses);
+        return saved;
+    }
+
+    @Override
+    public IPage<Task> findAll(IPageable pageable) {
+        return findPage(pageable, null, () -> delegate.findAll(pageable));
+    }
+
+    @Override
+    public Task newEntity() {
+        return delegate.newEntity();
+    }
+
+    @Override
+    public IPage<Task> findByStatus(IPageable pageable, TaskStatus status) {
+        return findPage(pageable, status, () -> delegate.findByStatus(pageable, status));
+    }
+
+    @Override
+    public List<Task> findByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime currentTime, int count) {
+        return delegate.findByStatusAndDueDateTimeBefore(status, currentTime, count);
+    }
+
+    @Override
+    public IdRange findIdRangeByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime currentTimestamp) {
+        return delegate.findIdRangeByStatusAndDueDateTimeBefore(status, currentTimestamp);
+    }
+
+    @Override
+    public List<TaskDeadline> findDeadlinesByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime until) {
+        return delegate.findDeadlinesByStatusAndDueDateTimeBefore(status, until);
+    }
+
+    /**
+     * Invalidate a task written by another node, or every task with one of the statuses,
+     * and the pages of the statuses.
+     *
+     * @param taskId   The ID of the written task, or null for every task with one of the statuses.
+     * @param statuses The statuses the written tasks had or have.
+     */
+    public void invalidate(Long taskId, Collection<TaskStatus> statuses) {
+        if (taskId != null) {
+            tasksById.invalidate(taskId);
+        } else {
+            tasksById.asMap().values().removeIf(task -> statuses.contains(task.getStatus()));
+        }
+        bump(statuses);
+    }
+
+    /**
+     * Find a page from the cache if it was cached at the current change counter of the status, or of all tasks.
+     * The counter is read before the page, so a page loaded during a write is keyed on the counter it missed.
+     * Lookups inside a read-write transaction bypass the cache, as they may see uncommitted changes.
+     */
+    private IPage<Task> findPage(IPageable pageable, TaskStatus status, Supplier<IPage<Task>> loader) {
+        if (isReadWriteTransaction()) {
+            return loader.get();
+        }
+        long version = taskChangeTracker.getVersion(status);
+        PageKey key = new PageKey(status, pageable.getPage(), pageable.getSize(),
+                pageable.getAfter(), pageable.isWithTotal(), version);
+        return copyOf(pages.get(key, k -> copyOf(loader.get())));
+    }
+
+    /**
+     * Collect the statuses the given tasks have and had: the previous status of a task is taken from the cache,
+     * and every status is affected if it is unknown.
+     */
+    private Set<TaskStatus> statusesOf(Collection<Task> tasks) {
+        Set<TaskStatus> statuses = EnumSet.noneOf(TaskStatus.class);
+        for (Task task : tasks) {
+            if (task.getStatus() != null) {
+                statuses.add(task.getStatus());
+            }
+            if (task.getId() != null) {
+                Task cached = tasksById.getIfPresent(task.getId());
+                if (cached == null || cached.getStatus() == null) {
+                    return EnumSet.allOf(TaskStatus.class);
+                }
+                statuses.add(cached.getStatus());
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * Move the change counters of the given statuses and of all tasks, now and again after the current transaction
+     * completes, so the pages cached before or during the change are no longer found.
+     */
+    private void bump(Collection<TaskStatus> statuses) {
+        List<TaskStatus> bumped = List.copyOf(statuses);
+        evict(() -> taskChangeTracker.invalidate(bumped));
+    }
+
+    private static boolean isReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * Run an eviction now and again after the current transaction completes, if any,
+     * to drop the tasks cached by concurrent lookups before the change was committed or rolled back.
+     */
+    private void evict(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private static IPage<Task> copyOf(IPage<Task> page) {
+        IPage<Task> copy = new PageImpl<>();
+        copy.setContent(page.getContent().stream().map(CachingTaskRepository::copyOf).toList());
+        copy.setTotalElements(page.getTotalElements());
+        copy.setNumber(page.getNumber());
+        copy.setSize(page.getSize());
+        copy.setHasNext(page.isHasNext());
+        copy.setNextCursor(page.getNextCursor());
+        return copy;
+    }
+
+    private static Task copyOf(Task task) {
+        Task copy = new TaskImpl(task.getDescription(), task.getCreationDateTime());
+        copy.setId(task.getId());
+        copy.setVersion(task.getVersion());
+        copy.setStatus(task.getStatus());
+        copy.setDueDateTime(task.getDueDateTime());
+        copy.setCompletionDateTime(task.getCompletionDateTime());
+        return copy;
+    }
+
+    private record PageKey(TaskStatus status, int page, int size, String after, boolean withTotal, long version) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.tasks.taskmanagement.infrastructure.cache;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * An entry of the task invalidation log: a write of a node to one task, or to every task with one of the statuses.
+ *
+ * @param id        The position of the entry in the log.
+ * @param nodeId    The node that made the write.
+ * @param taskId    The ID of the written task, or null for every task with one of the statuses.
+ * @param statuses  The statuses the written tasks had or have.
+ * @param createdAt The database time of the write.
+ */
+public record TaskInvalidation(long id, String nodeId, Long taskId, Set<TaskStatus> statuses, LocalDateTime createdAt) {
+}
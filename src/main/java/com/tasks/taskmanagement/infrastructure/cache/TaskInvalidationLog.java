@@ -0,0 +1,117 @@
+package com.tasks.taskmanagement.infrastructure.cache;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * The TaskInvalidationLog class appends the task writes of this node to the shared "task_invalidations" table,
+ * for the other nodes to invalidate their caches, and reads the entries of all nodes back.
+ * Entries are appended with the connection of the current transaction, so they are only visible once the
+ * write has committed. Appending is enabled with "taskcache.invalidation.enabled=true".
+ */
+@Repository
+public class TaskInvalidationLog {
+
+    private static final String INSERT = "INSERT INTO task_invalidations (node_id, task_id, statuses, created_at) "
+            + "VALUES (?, ?, ?, LOCALTIMESTAMP)";
+    private static final int[] INSERT_TYPES = {Types.VARCHAR, Types.BIGINT, Types.VARCHAR};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Autowired
+    public TaskInvalidationLog(JdbcTemplate jdbcTemplate,
+                               @Value("${taskcache.invalidation.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Append a write of this node to the log, if enabled.
+     *
+     * @param taskIds  The IDs of the written tasks, or none for every task with one of the statuses.
+     * @param statuses The statuses the written tasks had or have.
+     */
+    public void append(Collection<Long> taskIds, Collection<TaskStatus> statuses) {
+        if (!enabled) {
+            return;
+        }
+        String joined = statuses.stream().map(TaskStatus::name).sorted().collect(Collectors.joining(","));
+        List<Object[]> rows = taskIds.isEmpty()
+                ? List.<Object[]>of(new Object[]{nodeId, null, joined})
+                : taskIds.stream().map(id -> new Object[]{nodeId, id, joined}).toList();
+        jdbcTemplate.batchUpdate(INSERT, rows, INSERT_TYPES);
+    }
+
+    /**
+     * Read the entries written since a time, in log order.
+     *
+     * @param since   The earliest database time of the entries to read.
+     * @param afterId The position after which to read, to page through the entries.
+     * @param limit   The maximum number of entries to read.
+     * @return The entries, ordered by position.
+     */
+    public List<TaskInvalidation> readSince(LocalDateTime since, long afterId, int limit) {
+        return jdbcTemplate.query("SELECT id, node_id, task_id, statuses, created_at FROM task_invalidations "
+                        + "WHERE created_at >= ? AND id > ? ORDER BY id LIMIT ?",
+                TaskInvalidationLog::toInvalidation, since, afterId, limit);
+    }
+
+    /**
+     * Delete the entries written before a time, which every node has read.
+     *
+     * @param before The database time before which to delete.
+     * @return The number of deleted entries.
+     */
+    public int deleteBefore(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM task_invalidations WHERE created_at < ?", before);
+    }
+
+    /**
+     * Get the current database time, the clock of the entries.
+     *
+     * @return The current database time.
+     */
+    public LocalDateTime currentTimestamp() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+    }
+
+    /**
+     * Get the ID of this node in the log.
+     *
+     * @return The node ID.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static TaskInvalidation toInvalidation(ResultSet rs, int rowNum) throws SQLException {
+        Set<TaskStatus> statuses = EnumSet.noneOf(TaskStatus.class);
+        Arrays.stream(rs.getString("statuses").split(","))
+                .filter(status -> !status.isEmpty())
+                .map(TaskStatus::valueOf)
+                .forEach(statuses::add);
+        return new TaskInvalidation(
+                rs.getLong("id"),
+                rs.getString("node_id"),
+                rs.getObject("task_id", Long.class),
+                statuses,
+                rs.getObject("created_at", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,113 @@
+package com.tasks.taskmanagement.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The TaskInvalidationTailer class keeps the task caches of this node coherent with the writes of the other nodes
+ * by tailing the shared invalidation log in batches. Invalidating the cache also moves the change counters
+ * of the TaskChangeTracker, so the list ETags of this node change along with the tasks.
+ * Log positions are allocated before the writes commit, so they may become visible out of order: every poll
+ * re-reads the entries of the last commit grace period and skips the ones already applied.
+ * The staleness of the caches is thus bounded by the poll interval, for transactions shorter than the grace period,
+ * and measured as the "tasks.invalidations.lag" timer. The cache expiry bounds it for longer ones.
+ * It is enabled with "taskcache.invalidation.enabled=true" along with the cache.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"taskcache.enabled", "taskcache.invalidation.enabled"}, havingValue = "true")
+public class TaskInvalidationTailer {
+
+    private final TaskInvalidationLog invalidationLog;
+    private final CachingTaskRepository cache;
+    private final Duration commitGrace;
+    private final Duration retention;
+    private final int batchSize;
+    private final Map<Long, LocalDateTime> applied = new HashMap<>();
+    private final Counter appliedCounter;
+    private final Timer lag;
+
+    private LocalDateTime watermark;
+
+    @Autowired
+    public TaskInvalidationTailer(TaskInvalidationLog invalidationLog,
+                                  CachingTaskRepository cache,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${taskcache.invalidation.commit-grace:PT5S}") Duration commitGrace,
+                                  @Value("${taskcache.invalidation.retention:PT10M}") Duration retention,
+                                  @Value("${taskcache.invalidation.batch-size:500}") int batchSize) {
+        this.invalidationLog = invalidationLog;
+        this.cache = cache;
+        this.commitGrace = commitGrace;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.appliedCounter = Counter.builder("tasks.invalidations.applied")
+                .description("Task writes of other nodes invalidated in the caches of this node")
+                .register(meterRegistry);
+        this.lag = Timer.builder("tasks.invalidations.lag")
+                .description("Delay between a task write on another node and its invalidation on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Read the new entries of the log and invalidate the tasks written by the other nodes.
+     * The first poll only starts the tail at the current time, as the caches are empty at startup.
+     */
+    @Scheduled(fixedDelayString = "${taskcache.invalidation.poll-interval:PT1S}")
+    public synchronized void poll() {
+        LocalDateTime now = invalidationLog.currentTimestamp();
+        if (watermark == null) {
+            watermark = now;
+            return;
+        }
+        LocalDateTime since = watermark.minus(commitGrace);
+        long afterId = 0;
+        List<TaskInvalidation> batch;
+        do {
+            batch = invalidationLog.readSince(since, afterId, batchSize);
+            for (TaskInvalidation invalidation : batch) {
+                afterId = invalidation.id();
+                if (applied.putIfAbsent(invalidation.id(), invalidation.createdAt()) == null) {
+                    apply(invalidation, now);
+                }
+            }
+        } while (batch.size() == batchSize);
+        applied.values().removeIf(createdAt -> createdAt.isBefore(since));
+    }
+
+    /**
+     * Delete the entries older than the retention period, long read by every node.
+     */
+    @Scheduled(fixedDelayString = "${taskcache.invalidation.prune-interval:PT1M}")
+    public void prune() {
+        int deleted = invalidationLog.deleteBefore(invalidationLog.currentTimestamp().minus(retention));
+        if (deleted > 0) {
+            log.info("Pruned {} task invalidations older than {}", deleted, retention);
+        }
+    }
+
+    private void apply(TaskInvalidation invalidation, LocalDateTime now) {
+        if (invalidation.createdAt().isAfter(watermark)) {
+            watermark = invalidation.createdAt();
+        }
+        if (invalidation.nodeId().equals(invalidationLog.getNodeId())) {
+            return;
+        }
+        cache.invalidate(invalidation.taskId(), invalidation.statuses());
+        appliedCounter.increment();
+        lag.record(Duration.between(invalidation.createdAt(), now));
+    }
+}
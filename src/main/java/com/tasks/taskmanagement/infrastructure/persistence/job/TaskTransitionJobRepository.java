@@ -0,0 +1,175 @@
+package com.tasks.taskmanagement.infrastructure.persistence.job;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransitionJob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The TaskTransitionJobRepository class stores the bulk status transition jobs and their progress
+ * in the "task_transition_jobs" table of the shared database, so any node can report on a job
+ * run by another one. Timestamps are taken from the database clock.
+ * The node running or queuing a job refreshes its heartbeat, so the jobs of a node that stopped without
+ * finishing them can be recorded as failed by any node.
+ */
+@Repository
+public class TaskTransitionJobRepository {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TaskTransitionJobRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Record a new queued job.
+     *
+     * @param filter       The filter selecting the tasks.
+     * @param targetStatus The status the tasks are moved to.
+     * @param total        The number of tasks that could be moved.
+     * @return The recorded job.
+     */
+    public TaskTransitionJob create(TaskFilter filter, TaskStatus targetStatus, long total) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update("INSERT INTO task_transition_jobs "
+                        + "(status, due_from, due_to, target_status, state, total, updated, created_at, heartbeat_at) "
+                        + "VALUES (:status, :dueFrom, :dueTo, :targetStatus, :state, :total, 0, LOCALTIMESTAMP, LOCALTIMESTAMP)",
+                new MapSqlParameterSource()
+                        .addValue("status", filter.status() != null ? filter.status().name() : null)
+                        .addValue("dueFrom", filter.dueFrom())
+                        .addValue("dueTo", filter.dueTo())
+                        .addValue("targetStatus", targetStatus.name())
+                        .addValue("state", TaskTransitionJob.State.QUEUED.name())
+                        .addValue("total", total),
+                keyHolder, new String[]{"id"});
+        Long id = keyHolder.getKeyAs(Long.class);
+        return findById(id).orElseThrow(() -> new IllegalStateException("Task transition job " + id + " was not recorded"));
+    }
+
+    /**
+     * Mark a job as running.
+     *
+     * @param id The ID of the job.
+     */
+    public void markRunning(Long id) {
+        jdbcTemplate.update("UPDATE task_transition_jobs "
+                        + "SET state = :state, started_at = LOCALTIMESTAMP, heartbeat_at = LOCALTIMESTAMP WHERE id = :id",
+                new MapSqlParameterSource()
+                        .addValue("state", TaskTransitionJob.State.RUNNING.name())
+                        .addValue("id", id));
+    }
+
+    /**
+     * Record the progress of a running job.
+     *
+     * @param id      The ID of the job.
+     * @param updated The number of tasks moved so far.
+     */
+    public void updateProgress(Long id, long updated) {
+        jdbcTemplate.update("UPDATE task_transition_jobs SET updated = :updated, heartbeat_at = LOCALTIMESTAMP WHERE id = :id",
+                new MapSqlParameterSource()
+                        .addValue("updated", updated)
+                        .addValue("id", id));
+    }
+
+    /**
+     * Mark a job as finished.
+     *
+     * @param id      The ID of the job.
+     * @param state   The final state of the job.
+     * @param updated The number of moved tasks.
+     * @param error   Why the job failed, null if it succeeded.
+     */
+    public void finish(Long id, TaskTransitionJob.State state, long updated, String error) {
+        jdbcTemplate.update("UPDATE task_transition_jobs "
+                        + "SET state = :state, updated = :updated, error = :error, finished_at = LOCALTIMESTAMP "
+                        + "WHERE id = :id",
+                new MapSqlParameterSource()
+                        .addValue("state", state.name())
+                        .addValue("updated", updated)
+                        .addValue("error", error != null && error.length() > MAX_ERROR_LENGTH
+                                ? error.substring(0, MAX_ERROR_LENGTH) : error)
+                        .addValue("id", id));
+    }
+
+    /**
+     * Refresh the heartbeat of the jobs queued or running on this node.
+     *
+     * @param ids The IDs of the jobs.
+     */
+    public void touch(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE task_transition_jobs SET heartbeat_at = LOCALTIMESTAMP WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * Mark as failed the queued and running jobs whose heartbeat was not refreshed for a while,
+     * as the node they were submitted to stopped.
+     *
+     * @param staleAfter How long a heartbeat is valid.
+     * @param error      Why the jobs failed.
+     * @return The number of failed jobs.
+     */
+    public int failStale(Duration staleAfter, String error) {
+        LocalDateTime now = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+        return jdbcTemplate.update("UPDATE task_transition_jobs "
+                        + "SET state = :failed, error = :error, finished_at = LOCALTIMESTAMP "
+                        + "WHERE state IN (:active) AND COALESCE(heartbeat_at, created_at) < :cutoff",
+                new MapSqlParameterSource()
+                        .addValue("failed", TaskTransitionJob.State.FAILED.name())
+                        .addValue("error", error)
+                        .addValue("active", List.of(TaskTransitionJob.State.QUEUED.name(),
+                                TaskTransitionJob.State.RUNNING.name()))
+                        .addValue("cutoff", now.minus(staleAfter)));
+    }
+
+    /**
+     * Find a job by its ID.
+     *
+     * @param id The ID of the job.
+     * @return The job, or empty if there is none with this ID.
+     */
+    public Optional<TaskTransitionJob> findById(Long id) {
+        return jdbcTemplate.query("SELECT id, status, due_from, due_to, target_status, state, total, updated, error, "
+                                + "created_at, started_at, finished_at FROM task_transition_jobs WHERE id = :id",
+                        new MapSqlParameterSource("id", id),
+                        TaskTransitionJobRepository::toJob)
+                .stream().findFirst();
+    }
+
+    private static TaskTransitionJob toJob(ResultSet rs, int rowNum) throws SQLException {
+        String status = rs.getString("status");
+        return new TaskTransitionJob(
+                rs.getLong("id"),
+                new TaskFilter(status != null ? TaskStatus.valueOf(status) : null,
+                        rs.getObject("due_from", LocalDateTime.class),
+                        rs.getObject("due_to", LocalDateTime.class)),
+                TaskStatus.valueOf(rs.getString("target_status")),
+                TaskTransitionJob.State.valueOf(rs.getString("state")),
+                rs.getLong("total"),
+                rs.getLong("updated"),
+                rs.getString("error"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("started_at", LocalDateTime.class),
+                rs.getObject("finished_at", LocalDateTime.class));
+    }
+}
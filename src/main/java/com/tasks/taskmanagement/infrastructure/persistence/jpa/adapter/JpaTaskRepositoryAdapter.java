@@ -6,15 +6,26 @@ import com.tasks.taskmanagement.domain.valueobject.*;
 import com.tasks.taskmanagement.infrastructure.persistence.jpa.entity.JpaTask;
 import com.tasks.taskmanagement.infrastructure.persistence.jpa.mapper.TaskMapper;
 import com.tasks.taskmanagement.infrastructure.persistence.jpa.repository.JpaTaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adapter class that implements the TaskRepository interface for JPA-based task persistence.
@@ -22,13 +33,27 @@ import java.util.Optional;
 @Repository
 public class JpaTaskRepositoryAdapter implements TaskRepository {
 
+    private static final int MAX_IN_SIZE = 1000;
+    private static final String LOCK_STATES = "SELECT new com.tasks.taskmanagement.domain.valueobject.TaskState("
+            + "t.id, t.status, t.version) FROM JpaTask t WHERE t.status IN :statuses";
+
     private final JpaTaskRepository jpaTaskRepository;
     private final TaskMapper taskMapper;
+    private final EntityManager entityManager;
+    private final int batchSize;
+    private final int fetchSize;
 
     @Autowired
-    public JpaTaskRepositoryAdapter(JpaTaskRepository jpaTaskRepository, TaskMapper taskMapper) {
+    public JpaTaskRepositoryAdapter(JpaTaskRepository jpaTaskRepository,
+                                    TaskMapper taskMapper,
+                                    EntityManager entityManager,
+                                    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+                                    @Value("${tasks.export.fetch-size:500}") int fetchSize) {
         this.jpaTaskRepository = jpaTaskRepository;
         this.taskMapper = taskMapper;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
     }
 
     @Override
@@ -37,13 +62,180 @@ public class JpaTaskRepositoryAdapter implements TaskRepository {
     }
 
     @Override
-    public void deleteAll() {
-        jpaTaskRepository.deleteAll();
+    public int deleteByIdAndStatusIn(Long id, Collection<TaskStatus> statuses, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return jpaTaskRepository.deleteByIdInAndStatusIn(List.of(id), statuses);
+        }
+        return jpaTaskRepository.deleteByIdAndVersionAndStatusIn(id, expectedVersion, statuses);
+    }
+
+    @Override
+    public Optional<TaskState> findStateById(Long id) {
+        return jpaTaskRepository.findStateById(id);
+    }
+
+    /**
+     * Find the states of several tasks with one IN query per thousand IDs, to stay within the limits of the databases.
+     */
+    @Override
+    public List<TaskState> findStatesByIds(Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        List<TaskState> states = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += MAX_IN_SIZE) {
+            states.addAll(jpaTaskRepository.findStatesByIdIn(idList.subList(from, Math.min(from + MAX_IN_SIZE, idList.size()))));
+        }
+        return states;
+    }
+
+    @Override
+    public long deleteAll() {
+        return jpaTaskRepository.deleteAllInBulk();
+    }
+
+    /**
+     * Selects the lowest IDs of the tasks matching the filter and statuses, then deletes them with a bulk statement
+     * that checks the statuses again, so a task changed in the meantime is kept.
+     *
+     * @param filter    The filter selecting the tasks.
+     * @param statuses  The statuses the deleted tasks may have.
+     * @param chunkSize The maximum number of tasks to delete.
+     * @return The selected IDs and the number of deleted tasks.
+     */
+    @Override
+    @Transactional
+    public TaskDeletion deleteChunk(TaskFilter filter, Collection<TaskStatus> statuses, int chunkSize) {
+        String jpql = "SELECT t.id FROM JpaTask t WHERE t.status IN :statuses" + filterCondition(filter) + " ORDER BY t.id";
+        TypedQuery<Long> query = bindFilter(entityManager.createQuery(jpql, Long.class), filter)
+                .setParameter("statuses", statuses)
+                .setMaxResults(chunkSize);
+        List<Long> ids = query.getResultList();
+        if (ids.isEmpty()) {
+            return new TaskDeletion(List.of(), 0);
+        }
+        return new TaskDeletion(ids, jpaTaskRepository.deleteByIdInAndStatusIn(ids, statuses));
+    }
+
+    @Override
+    public long count(TaskFilter filter, Collection<TaskStatus> statuses) {
+        String jpql = "SELECT COUNT(t) FROM JpaTask t WHERE t.status IN :statuses" + filterCondition(filter);
+        return bindFilter(entityManager.createQuery(jpql, Long.class), filter)
+                .setParameter("statuses", statuses)
+                .getSingleResult();
+    }
+
+    /**
+     * Lock the tasks with a SELECT ... FOR UPDATE of their states only.
+     */
+    @Override
+    public List<TaskState> lockStates(TaskFilter filter, Collection<TaskStatus> statuses, long fromId, long toId, int limit) {
+        String jpql = LOCK_STATES + " AND t.id BETWEEN :fromId AND :toId" + filterCondition(filter) + " ORDER BY t.id";
+        return bindFilter(entityManager.createQuery(jpql, TaskState.class), filter)
+                .setParameter("statuses", statuses)
+                .setParameter("fromId", fromId)
+                .setParameter("toId", toId)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+    }
+
+    /**
+     * Lock the tasks with a SELECT ... FOR UPDATE of their states only, per thousand IDs.
+     */
+    @Override
+    public List<TaskState> lockStatesByIds(Collection<Long> ids, TaskFilter filter, Collection<TaskStatus> statuses) {
+        String jpql = LOCK_STATES + " AND t.id IN :ids" + filterCondition(filter) + " ORDER BY t.id";
+        List<Long> idList = new ArrayList<>(ids);
+        List<TaskState> states = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += MAX_IN_SIZE) {
+            states.addAll(bindFilter(entityManager.createQuery(jpql, TaskState.class), filter)
+                    .setParameter("statuses", statuses)
+                    .setParameter("ids", idList.subList(from, Math.min(from + MAX_IN_SIZE, idList.size())))
+                    .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                    .getResultList());
+        }
+        return states;
+    }
+
+    /**
+     * Update the status of the given tasks with one bulk statement per thousand IDs.
+     */
+    @Override
+    public int updateStatus(Collection<Long> ids, Collection<TaskStatus> oldStatuses, TaskStatus newStatus,
+                            LocalDateTime completionDateTime) {
+        List<Long> idList = new ArrayList<>(ids);
+        int updated = 0;
+        for (int from = 0; from < idList.size(); from += MAX_IN_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + MAX_IN_SIZE, idList.size()));
+            updated += completionDateTime == null
+                    ? jpaTaskRepository.updateStatusByIdIn(chunk, oldStatuses, newStatus)
+                    : jpaTaskRepository.updateStatusAndCompletionDateTimeByIdIn(chunk, oldStatuses, newStatus, completionDateTime);
+        }
+        return updated;
+    }
+
+    /**
+     * Pass every task matching a filter to an action, in ID order, through a forward-only cursor
+     * fetching a bounded number of rows at a time. Each task is detached once passed, so memory use does not
+     * depend on the number of tasks. Must be called within a transaction.
+     *
+     * @param filter The filter selecting the tasks.
+     * @param action The action to apply to each task.
+     * @return The number of tasks passed to the action.
+     */
+    @Override
+    public long forEach(TaskFilter filter, Consumer<Task> action) {
+        String jpql = "SELECT t FROM JpaTask t WHERE 1 = 1" + filterCondition(filter) + " ORDER BY t.id";
+        TypedQuery<JpaTask> query = bindFilter(entityManager.createQuery(jpql, JpaTask.class), filter)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        long count = 0;
+        try (Stream<JpaTask> tasks = query.getResultStream()) {
+            for (JpaTask task : (Iterable<JpaTask>) tasks::iterator) {
+                action.accept(task);
+                entityManager.detach(task);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String filterCondition(TaskFilter filter) {
+        StringBuilder condition = new StringBuilder();
+        if (filter.status() != null) {
+            condition.append(" AND t.status = :status");
+        }
+        if (filter.dueFrom() != null) {
+            condition.append(" AND t.dueDateTime >= :dueFrom");
+        }
+        if (filter.dueTo() != null) {
+            condition.append(" AND t.dueDateTime < :dueTo");
+        }
+        return condition.toString();
+    }
+
+    private static <T> TypedQuery<T> bindFilter(TypedQuery<T> query, TaskFilter filter) {
+        if (filter.status() != null) {
+            query.setParameter("status", filter.status());
+        }
+        if (filter.dueFrom() != null) {
+            query.setParameter("dueFrom", filter.dueFrom());
+        }
+        if (filter.dueTo() != null) {
+            query.setParameter("dueTo", filter.dueTo());
+        }
+        return query;
     }
 
     @Override
     public IPage<Task> findAll(IPageable pageable) {
-        Page<Task> result = jpaTaskRepository.findAll(PageRequest.of(pageable.getPage(), pageable.getSize()))
+        if (pageable.getAfter() != null) {
+            return findPageAfter(pageable, null);
+        }
+        PageRequest request = PageRequest.of(pageable.getPage(), pageable.getSize());
+        if (!pageable.isWithTotal()) {
+            return toSlice(jpaTaskRepository.findSliceBy(request));
+        }
+        Page<Task> result = jpaTaskRepository.findAll(request)
                 .map(e -> (Task) e);
         return new PageImpl<>(result.getContent(),result.getTotalElements(),result.getNumber(),result.getSize());
     }
@@ -53,15 +245,48 @@ public class JpaTaskRepositoryAdapter implements TaskRepository {
         return jpaTaskRepository.findById(id).map(task -> task);
     }
 
+    @Override
+    public List<Task> findAllByIds(Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        List<Task> tasks = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += MAX_IN_SIZE) {
+            tasks.addAll(jpaTaskRepository.findAllById(idList.subList(from, Math.min(from + MAX_IN_SIZE, idList.size()))));
+        }
+        return tasks;
+    }
+
     @Override
     public Task save(Task task) {
         return jpaTaskRepository.save(taskMapper.mapToJpaTask(task));
     }
 
+    /**
+     * Saves the tasks in JDBC batches. New tasks are persisted with pooled sequence IDs so Hibernate can
+     * batch their inserts, and the persistence context is flushed and cleared after every batch to keep
+     * its memory bounded.
+     *
+     * @param tasks The list of tasks to be saved.
+     * @return The saved list of tasks.
+     */
     @Override
+    @Transactional
     public List<Task> saveAll(Iterable<Task> tasks) {
-        Iterable<JpaTask> jpaTasks = taskMapper.mapToJpaTaskList(tasks);
-        return new ArrayList<>(jpaTaskRepository.saveAll(jpaTasks));
+        List<Task> saved = new ArrayList<>();
+        for (JpaTask jpaTask : taskMapper.mapToJpaTaskList(tasks)) {
+            if (jpaTask.getId() == null) {
+                entityManager.persist(jpaTask);
+                saved.add(jpaTask);
+            } else {
+                saved.add(entityManager.merge(jpaTask));
+            }
+            if (saved.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
     }
 
     @Override
@@ -71,12 +296,56 @@ public class JpaTaskRepositoryAdapter implements TaskRepository {
 
     @Override
     public IPage<Task> findByStatus(IPageable pageable, TaskStatus status) {
+        if (pageable.getAfter() != null) {
+            return findPageAfter(pageable, status);
+        }
+        PageRequest request = PageRequest.of(pageable.getPage(), pageable.getSize());
+        if (!pageable.isWithTotal()) {
+            return toSlice(jpaTaskRepository.findSliceByStatus(status, request));
+        }
         Page<Task> result = jpaTaskRepository
-                .findByStatus(status, PageRequest.of(pageable.getPage(), pageable.getSize()))
+                .findByStatus(status, request)
                 .map(e -> (Task) e);
         return new PageImpl<>(result.getContent(),result.getTotalElements(),result.getNumber(),result.getSize());
     }
 
+    /**
+     * Finds the page following the cursor of the given pageable using keyset pagination on the task ID,
+     * so the cost of a page does not depend on how deep it is. The count query is only run if the total is requested.
+     *
+     * @param pageable The pagination information holding the cursor.
+     * @param status   The status to filter tasks by, or null for all tasks.
+     * @return The page of tasks following the cursor.
+     */
+    private IPage<Task> findPageAfter(IPageable pageable, TaskStatus status) {
+        Long lastId = TaskCursor.decode(pageable.getAfter());
+        long afterId = lastId == null ? Long.MIN_VALUE : lastId;
+        PageRequest request = PageRequest.of(0, pageable.getSize(), Sort.by("id"));
+        Slice<JpaTask> slice = status == null
+                ? jpaTaskRepository.findByIdGreaterThan(afterId, request)
+                : jpaTaskRepository.findByStatusAndIdGreaterThan(status, afterId, request);
+
+        IPage<Task> page = toSlice(slice);
+        if (pageable.isWithTotal()) {
+            page.setTotalElements(status == null ? jpaTaskRepository.count() : jpaTaskRepository.countByStatus(status));
+        }
+        List<Task> content = page.getContent();
+        if (slice.hasNext()) {
+            page.setNextCursor(TaskCursor.encode(content.get(content.size() - 1).getId()));
+        }
+        return page;
+    }
+
+    /**
+     * Converts a Spring Data slice, fetched without a count query, into a domain slice.
+     *
+     * @param slice The slice of JPA tasks.
+     * @return The slice of tasks answering only whether there is a next page.
+     */
+    private IPage<Task> toSlice(Slice<JpaTask> slice) {
+        return new SliceImpl<>(new ArrayList<>(slice.getContent()), slice.hasNext(), slice.getNumber(), slice.getSize());
+    }
+
     @Override
     public List<Task> findByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime currentTime, int count) {
         Page<JpaTask> tasks = jpaTaskRepository
@@ -84,19 +353,13 @@ public class JpaTaskRepositoryAdapter implements TaskRepository {
         return new ArrayList<>(tasks.stream().toList());
     }
 
-    /**
-     * Updates the status of tasks that meet the specified criteria.
-     *
-     * @param oldStatus        The old status of tasks to be updated.
-     * @param newStatus        The new status to set for the tasks.
-     * @param currentTimestamp The timestamp used for comparison with the dueDateTime field of tasks.
-     */
     @Override
-    public void updateStatusForDueDateTimeAndOldStatus(TaskStatus oldStatus, TaskStatus newStatus, LocalDateTime currentTimestamp) {
+    public IdRange findIdRangeByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime currentTimestamp) {
+        return jpaTaskRepository.findIdRangeByStatusAndDueDateTimeBefore(status, currentTimestamp);
+    }
 
-        jpaTaskRepository.updateStatusForDueDateTimeAndOldStatus(oldStatus,
-                newStatus,
-                currentTimestamp
-                );
+    @Override
+    public List<TaskDeadline> findDeadlinesByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime until) {
+        return jpaTaskRepository.findDeadlinesByStatusAndDueDateTimeBefore(status, until);
     }
 }
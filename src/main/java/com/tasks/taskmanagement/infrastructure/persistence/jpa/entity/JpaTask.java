@@ -3,20 +3,32 @@ package com.tasks.taskmanagement.infrastructure.persistence.jpa.entity;
 import com.tasks.taskmanagement.domain.entity.Task;
 import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 /**
  * JPA entity class representing a Task in the database.
+ * The schema, including the indexes declared here, is managed by the Flyway migrations in db/migration.
+ * Updates only write the changed columns.
  */
 @Entity
-@Table(name = "tasks")
+@DynamicUpdate
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_status_due_date_time", columnList = "status, dueDateTime"),
+        @Index(name = "idx_tasks_status_id", columnList = "status, id")
+})
 public class JpaTask implements Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "description", nullable = false)
     private String description;
 
@@ -55,6 +67,14 @@ public class JpaTask implements Task {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -103,6 +123,7 @@ public class JpaTask implements Task {
     public String toString() {
         return "Task{" +
                 "id=" + id +
+                ", version=" + version +
                 ", description='" + description + '\'' +
                 ", creationDateTime=" + creationDateTime +
                 ", dueDateTime=" + dueDateTime +
@@ -26,6 +26,7 @@ public class TaskMapperJpaImpl implements TaskMapper{
         } else {
             jpaTask = new JpaTask();
             jpaTask.setId(task.getId());
+            jpaTask.setVersion(task.getVersion());
             jpaTask.setDescription(task.getDescription());
             jpaTask.setStatus(task.getStatus());
             jpaTask.setCreationDateTime(task.getCreationDateTime());
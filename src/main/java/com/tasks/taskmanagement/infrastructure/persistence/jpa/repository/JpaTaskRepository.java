@@ -1,25 +1,46 @@
 package com.tasks.taskmanagement.infrastructure.persistence.jpa.repository;
 
+import com.tasks.taskmanagement.domain.valueobject.IdRange;
+import com.tasks.taskmanagement.domain.valueobject.TaskDeadline;
+import com.tasks.taskmanagement.domain.valueobject.TaskState;
 import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
 import com.tasks.taskmanagement.infrastructure.persistence.jpa.entity.JpaTask;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 
 /**
  * The JpaTaskRepository interface extends JpaRepository for JpaTask entities and provides custom query methods for retrieving tasks based on status and due date-time.
+ * The page and slice queries are read-only: their entities are only mapped to responses, so Hibernate keeps no snapshot for dirty checking.
  */
 @Repository
 public interface JpaTaskRepository extends JpaRepository<JpaTask, Long> {
 
+    /**
+     * Retrieves a page of tasks.
+     *
+     * @param pageable Pageable object to specify the page number and size.
+     * @return A page of tasks.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Page<JpaTask> findAll(Pageable pageable);
+
     /**
      * Retrieves a page of tasks with the specified status.
      *
@@ -27,8 +48,57 @@ public interface JpaTaskRepository extends JpaRepository<JpaTask, Long> {
      * @param pageable Pageable object to specify the page number and size.
      * @return A page of tasks with the specified status.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<JpaTask> findByStatus(TaskStatus status, Pageable pageable);
 
+    /**
+     * Retrieves a slice of tasks without counting all of them.
+     *
+     * @param pageable Pageable object to specify the page number and size.
+     * @return A slice of tasks.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<JpaTask> findSliceBy(Pageable pageable);
+
+    /**
+     * Retrieves a slice of tasks with the specified status without counting all of them.
+     *
+     * @param status   The status of the tasks to retrieve.
+     * @param pageable Pageable object to specify the page number and size.
+     * @return A slice of tasks with the specified status.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<JpaTask> findSliceByStatus(TaskStatus status, Pageable pageable);
+
+    /**
+     * Retrieves a slice of tasks with an ID greater than the given one (keyset pagination).
+     *
+     * @param id       The ID of the last task of the previous page.
+     * @param pageable Pageable object to specify the size and the ordering by ID.
+     * @return A slice of tasks following the given ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<JpaTask> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * Retrieves a slice of tasks with the specified status and an ID greater than the given one (keyset pagination).
+     *
+     * @param status   The status of the tasks to retrieve.
+     * @param id       The ID of the last task of the previous page.
+     * @param pageable Pageable object to specify the size and the ordering by ID.
+     * @return A slice of tasks with the specified status following the given ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<JpaTask> findByStatusAndIdGreaterThan(TaskStatus status, Long id, Pageable pageable);
+
+    /**
+     * Counts the tasks with the specified status.
+     *
+     * @param status The status of the tasks to count.
+     * @return The number of tasks with the specified status.
+     */
+    long countByStatus(TaskStatus status);
+
     /**
      * Retrieves a page of tasks with the specified status and due date-time before the current time.
      *
@@ -40,16 +110,119 @@ public interface JpaTaskRepository extends JpaRepository<JpaTask, Long> {
     Page<JpaTask> findByStatusAndDueDateTimeBefore(TaskStatus status, LocalDateTime currentTime, Pageable pageable);
 
     /**
-     * Updates the status of tasks that meet the specified criteria.
+     * Finds the status and version of a task without loading the entity.
+     *
+     * @param id The ID of the task.
+     * @return The state of the task, empty if the task does not exist.
+     */
+    @Query("SELECT new com.tasks.taskmanagement.domain.valueobject.TaskState(t.id, t.status, t.version) FROM JpaTask t " +
+            "WHERE t.id = :id")
+    Optional<TaskState> findStateById(@Param("id") Long id);
+
+    /**
+     * Finds the status and version of several tasks without loading the entities.
      *
-     * @param oldStatus        The old status of tasks to be updated.
-     * @param newStatus        The new status to set for the tasks.
+     * @param ids The IDs of the tasks.
+     * @return The states of the existing tasks.
+     */
+    @Query("SELECT new com.tasks.taskmanagement.domain.valueobject.TaskState(t.id, t.status, t.version) FROM JpaTask t " +
+            "WHERE t.id IN :ids")
+    List<TaskState> findStatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes a task if it still has the given version and its status is one of the given ones.
+     *
+     * @param id       The ID of the task to delete.
+     * @param version  The version the task must have.
+     * @param statuses The statuses the deleted task may have.
+     * @return The number of deleted tasks.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM JpaTask t WHERE t.id = :id AND t.version = :version AND t.status IN :statuses")
+    int deleteByIdAndVersionAndStatusIn(@Param("id") Long id,
+                                        @Param("version") Long version,
+                                        @Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Deletes all tasks with a single bulk statement, without loading them.
+     *
+     * @return The number of deleted tasks.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM JpaTask t")
+    int deleteAllInBulk();
+
+    /**
+     * Deletes the given tasks if their status is one of the given ones.
+     *
+     * @param ids      The IDs of the tasks to delete.
+     * @param statuses The statuses the deleted tasks may have.
+     * @return The number of deleted tasks.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM JpaTask t WHERE t.id IN :ids AND t.status IN :statuses")
+    int deleteByIdInAndStatusIn(@Param("ids") Collection<Long> ids,
+                                @Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Finds the lowest and highest IDs of the tasks with the specified status and due date-time before the given time.
+     *
+     * @param status           The status of the tasks.
      * @param currentTimestamp The timestamp used for comparison with the dueDateTime field of tasks.
+     * @return The range of IDs of the matching tasks, empty if there are none.
+     */
+    @Query("SELECT new com.tasks.taskmanagement.domain.valueobject.IdRange(MIN(t.id), MAX(t.id)) FROM JpaTask t " +
+            "WHERE t.status = :status AND t.dueDateTime < :currentTimestamp")
+    IdRange findIdRangeByStatusAndDueDateTimeBefore(@Param("status") TaskStatus status,
+                                                    @Param("currentTimestamp") LocalDateTime currentTimestamp);
+
+    /**
+     * Finds the IDs and due date-times of the tasks with the specified status and due date-time before the given time.
+     *
+     * @param status The status of the tasks.
+     * @param until  The time the due date-time of the tasks must be before.
+     * @return The deadlines of the matching tasks.
+     */
+    @Query("SELECT new com.tasks.taskmanagement.domain.valueobject.TaskDeadline(t.id, t.dueDateTime) FROM JpaTask t " +
+            "WHERE t.status = :status AND t.dueDateTime < :until")
+    List<TaskDeadline> findDeadlinesByStatusAndDueDateTimeBefore(@Param("status") TaskStatus status,
+                                                                 @Param("until") LocalDateTime until);
+
+    /**
+     * Moves the given tasks to a new status if their status is still one of the given ones.
+     *
+     * @param ids         The IDs of the tasks to update.
+     * @param oldStatuses The statuses the updated tasks may have.
+     * @param newStatus   The new status to set for the tasks.
+     * @return The number of updated tasks.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE JpaTask t SET t.status = :newStatus, t.version = t.version + 1 " +
+            "WHERE t.id IN :ids AND t.status IN :oldStatuses")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("oldStatuses") Collection<TaskStatus> oldStatuses,
+                           @Param("newStatus") TaskStatus newStatus);
+
+    /**
+     * Moves the given tasks to a new status and sets their completion date-time, if their status is still
+     * one of the given ones.
+     *
+     * @param ids                The IDs of the tasks to update.
+     * @param oldStatuses        The statuses the updated tasks may have.
+     * @param newStatus          The new status to set for the tasks.
+     * @param completionDateTime The completion date-time to set.
+     * @return The number of updated tasks.
      */
     @Modifying
     @Transactional
-    @Query("UPDATE JpaTask t SET t.status = :newStatus WHERE t.status = :oldStatus AND t.dueDateTime < :currentTimestamp")
-    int updateStatusForDueDateTimeAndOldStatus(@Param("oldStatus") TaskStatus oldStatus,
-                                               @Param("newStatus") TaskStatus newStatus,
-                                               @Param("currentTimestamp") LocalDateTime currentTimestamp);
+    @Query("UPDATE JpaTask t SET t.status = :newStatus, t.completionDateTime = :completionDateTime, " +
+            "t.version = t.version + 1 WHERE t.id IN :ids AND t.status IN :oldStatuses")
+    int updateStatusAndCompletionDateTimeByIdIn(@Param("ids") Collection<Long> ids,
+                                                @Param("oldStatuses") Collection<TaskStatus> oldStatuses,
+                                                @Param("newStatus") TaskStatus newStatus,
+                                                @Param("completionDateTime") LocalDateTime completionDateTime);
 }
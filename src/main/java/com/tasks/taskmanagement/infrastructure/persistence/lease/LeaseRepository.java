@@ -0,0 +1,66 @@
+package com.tasks.taskmanagement.infrastructure.persistence.lease;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * The LeaseRepository class grants named leases through the "scheduler_leases" table of the shared database.
+ * A lease is taken or renewed with a single conditional UPDATE, which only one node can win, and is free
+ * again once expired, so it is handed over when its owner stops renewing it.
+ * Expiry times are computed on the database clock, so the clocks of the nodes do not matter.
+ */
+@Repository
+public class LeaseRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public LeaseRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Take or renew a lease, if it is free or already owned.
+     *
+     * @param name  The name of the lease.
+     * @param owner The node taking the lease.
+     * @param ttl   How long the lease is held without renewal.
+     * @return True if the owner holds the lease, false if another node does.
+     */
+    public boolean tryAcquire(String name, String owner, Duration ttl) {
+        LocalDateTime now = jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+        LocalDateTime expiresAt = now.plus(ttl);
+        int updated = jdbcTemplate.update("UPDATE scheduler_leases SET owner = ?, expires_at = ? "
+                + "WHERE name = ? AND (owner = ? OR expires_at < ?)", owner, expiresAt, name, owner, now);
+        if (updated > 0) {
+            return true;
+        }
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM scheduler_leases WHERE name = ?", Integer.class, name);
+        if (count != null && count > 0) {
+            return false;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO scheduler_leases (name, owner, expires_at) VALUES (?, ?, ?)",
+                    name, owner, expiresAt);
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Release a lease, if owned, for another node to take it right away.
+     *
+     * @param name  The name of the lease.
+     * @param owner The node releasing the lease.
+     */
+    public void release(String name, String owner) {
+        jdbcTemplate.update("DELETE FROM scheduler_leases WHERE name = ? AND owner = ?", name, owner);
+    }
+}
@@ -0,0 +1,148 @@
+package com.tasks.taskmanagement.infrastructure.persistence.outbox;
+
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.valueobject.TaskState;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The TaskOutbox class records the status transitions of the tasks in the "task_outbox" table, with the connection
+ * of the current transaction, so a transition is committed or rolled back along with the write that made it.
+ * The bulk status updates first lock the tasks they update, so their transitions are recorded for exactly
+ * the updated tasks, with the statuses they had.
+ * Recording is enabled with "tasks.outbox.enabled=true".
+ */
+@Repository
+public class TaskOutbox {
+
+    private static final String INSERT = "INSERT INTO task_outbox (task_id, old_status, new_status, occurred_at) "
+            + "VALUES (:taskId, :oldStatus, :newStatus, LOCALTIMESTAMP)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    @Autowired
+    public TaskOutbox(NamedParameterJdbcTemplate jdbcTemplate,
+                      @Value("${tasks.outbox.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Record the transition of a task, if its status changed.
+     *
+     * @param taskId    The ID of the task.
+     * @param oldStatus The status the task had, or null for a new task.
+     * @param newStatus The status the task has.
+     */
+    public void append(Long taskId, TaskStatus oldStatus, TaskStatus newStatus) {
+        if (!enabled || oldStatus == newStatus || newStatus == null) {
+            return;
+        }
+        jdbcTemplate.update(INSERT,
+                new MapSqlParameterSource()
+                        .addValue("taskId", taskId)
+                        .addValue("oldStatus", oldStatus != null ? oldStatus.name() : null)
+                        .addValue("newStatus", newStatus.name()));
+    }
+
+    /**
+     * Record the transitions of saved tasks whose status changed, with a single JDBC batch.
+     *
+     * @param tasks       The saved tasks.
+     * @param oldStatuses The statuses the tasks had, in the same order, null for new tasks.
+     */
+    public void appendAll(List<? extends Task> tasks, List<TaskStatus> oldStatuses) {
+        if (!enabled) {
+            return;
+        }
+        List<MapSqlParameterSource> batch = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskStatus oldStatus = oldStatuses.get(i);
+            TaskStatus newStatus = tasks.get(i).getStatus();
+            if (oldStatus == newStatus || newStatus == null) {
+                continue;
+            }
+            batch.add(new MapSqlParameterSource()
+                    .addValue("taskId", tasks.get(i).getId())
+                    .addValue("oldStatus", oldStatus != null ? oldStatus.name() : null)
+                    .addValue("newStatus", newStatus.name()));
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, batch.toArray(new MapSqlParameterSource[0]));
+        }
+    }
+
+    /**
+     * Record the transitions of the tasks a bulk status update is about to make, with a single JDBC batch.
+     * The tasks must be locked by the transaction, so their statuses are still the recorded ones when updated.
+     *
+     * @param states    The states of the locked tasks.
+     * @param newStatus The new status to set for the tasks.
+     */
+    public void appendLocked(List<TaskState> states, TaskStatus newStatus) {
+        if (!enabled) {
+            return;
+        }
+        List<MapSqlParameterSource> batch = new ArrayList<>(states.size());
+        for (TaskState state : states) {
+            if (state.status() != newStatus) {
+                batch.add(new MapSqlParameterSource()
+                        .addValue("taskId", state.id())
+                        .addValue("oldStatus", state.status() != null ? state.status().name() : null)
+                        .addValue("newStatus", newStatus.name()));
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, batch.toArray(new MapSqlParameterSource[0]));
+        }
+    }
+
+    /**
+     * Read the oldest transitions.
+     *
+     * @param limit The maximum number of transitions to read.
+     * @return The transitions, in the order they were recorded.
+     */
+    public List<TaskTransition> readBatch(int limit) {
+        return jdbcTemplate.query("SELECT id, task_id, old_status, new_status, occurred_at FROM task_outbox "
+                        + "ORDER BY id LIMIT :limit",
+                new MapSqlParameterSource("limit", limit),
+                TaskOutbox::toTransition);
+    }
+
+    /**
+     * Delete relayed transitions.
+     *
+     * @param ids The positions of the transitions.
+     * @return The number of deleted transitions.
+     */
+    public int delete(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("DELETE FROM task_outbox WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+    }
+
+    private static TaskTransition toTransition(ResultSet rs, int rowNum) throws SQLException {
+        String oldStatus = rs.getString("old_status");
+        return new TaskTransition(
+                rs.getLong("id"),
+                rs.getLong("task_id"),
+                oldStatus != null ? TaskStatus.valueOf(oldStatus) : null,
+                TaskStatus.valueOf(rs.getString("new_status")),
+                rs.getObject("occurred_at", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,75 @@
+package com.tasks.taskmanagement.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The ReadWriteRoutingDataSource class routes the connections of read-only transactions to the read replicas,
+ * in round-robin, and every other connection to the primary.
+ * Replicas may lag behind the primary, so the reads of a client go to the primary as well for a tolerance window
+ * after that client committed a read-write transaction; see ReadYourWritesSession. Rolled back transactions
+ * wrote nothing, so they do not count.
+ * The current transaction is only known once it has started, so this data source must be wrapped in a
+ * LazyConnectionDataSourceProxy for the target connection to be fetched at the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA_PREFIX = "replica-";
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final long lagToleranceMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * Constructor to create a ReadWriteRoutingDataSource over a primary and its replicas.
+     *
+     * @param primary      The data source of the primary database.
+     * @param replicas     The data sources of the read replicas, possibly none.
+     * @param lagTolerance How long after a write the reads of the writing client keep going to the primary.
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration lagTolerance) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = REPLICA_PREFIX + i;
+            targets.put(key, replicas.get(i));
+            replicaKeys.add(key);
+        }
+        this.lagToleranceMillis = lagTolerance.toMillis();
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                ReadYourWritesSession session = ReadYourWritesSession.current();
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == STATUS_COMMITTED) {
+                            session.recordWrite();
+                        }
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || ReadYourWritesSession.current().wroteWithin(lagToleranceMillis)) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+}
@@ -0,0 +1,65 @@
+package com.tasks.taskmanagement.infrastructure.persistence.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * The ReadYourWritesFilter class binds the ReadYourWritesSession of the client of a request for its duration.
+ * When the client commits a write, the time of the write is sent back in a cookie lasting the lag tolerance,
+ * so the following requests of that client, on any instance, read from the primary until the replicas caught up.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "tasks-last-write";
+
+    private final int maxAgeSeconds;
+
+    /**
+     * Constructor to create a ReadYourWritesFilter.
+     *
+     * @param lagTolerance How long after a write the reads of the writing client keep going to the primary.
+     */
+    public ReadYourWritesFilter(Duration lagTolerance) {
+        this.maxAgeSeconds = (int) Math.max(1, (lagTolerance.toMillis() + 999) / 1000);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ReadYourWritesSession.bind(lastWriteMillis(request), lastWrite -> {
+            Cookie cookie = new Cookie(COOKIE, Long.toString(lastWrite));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge(maxAgeSeconds);
+            response.addCookie(cookie);
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesSession.unbind();
+        }
+    }
+
+    private static long lastWriteMillis(HttpServletRequest request) {
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException ex) {
+                        return Long.MIN_VALUE;
+                    }
+                }
+            }
+        }
+        return Long.MIN_VALUE;
+    }
+}
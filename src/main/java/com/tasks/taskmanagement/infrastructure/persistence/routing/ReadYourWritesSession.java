@@ -0,0 +1,66 @@
+package com.tasks.taskmanagement.infrastructure.persistence.routing;
+
+import java.util.function.LongConsumer;
+
+/**
+ * The ReadYourWritesSession class records when a client last committed a write, so the ReadWriteRoutingDataSource
+ * keeps the reads of that client, and only of that client, on the primary for the lag tolerance.
+ * A session is bound to the current thread: a web request binds the session of its client for its duration,
+ * any other thread uses a session of its own.
+ */
+public final class ReadYourWritesSession {
+
+    private static final ThreadLocal<ReadYourWritesSession> CURRENT = ThreadLocal.withInitial(ReadYourWritesSession::new);
+
+    private volatile long lastWriteMillis = Long.MIN_VALUE;
+    private LongConsumer writeListener = lastWrite -> {
+    };
+
+    /**
+     * Bind the session of a client to the current thread.
+     *
+     * @param lastWriteMillis When the client last wrote, in epoch milliseconds, or Long.MIN_VALUE if unknown.
+     * @param writeListener   Told when the client commits a write, with its time in epoch milliseconds.
+     * @return The bound session.
+     */
+    public static ReadYourWritesSession bind(long lastWriteMillis, LongConsumer writeListener) {
+        ReadYourWritesSession session = new ReadYourWritesSession();
+        session.lastWriteMillis = lastWriteMillis;
+        session.writeListener = writeListener;
+        CURRENT.set(session);
+        return session;
+    }
+
+    /**
+     * Unbind the session of the current thread.
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Get the session of the current thread.
+     *
+     * @return The bound session, or the session of the thread itself.
+     */
+    public static ReadYourWritesSession current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Check whether the client wrote within a duration.
+     *
+     * @param toleranceMillis The duration, in milliseconds.
+     * @return True if the client committed a write less than the duration ago, false otherwise.
+     */
+    public boolean wroteWithin(long toleranceMillis) {
+        long lastWrite = lastWriteMillis;
+        return lastWrite != Long.MIN_VALUE && System.currentTimeMillis() - lastWrite < toleranceMillis;
+    }
+
+    void recordWrite() {
+        long now = System.currentTimeMillis();
+        lastWriteMillis = now;
+        writeListener.accept(now);
+    }
+}
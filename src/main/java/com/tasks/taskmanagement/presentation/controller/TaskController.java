@@ -1,23 +1,47 @@
 package com.tasks.taskmanagement.presentation.controller;
 
+import com.tasks.taskmanagement.application.spring.service.changetracking.TaskChangeTracker;
 import com.tasks.taskmanagement.application.spring.service.statusupdate.TaskStatusUpdater;
+import com.tasks.taskmanagement.application.spring.service.stream.TaskStreamBroadcaster;
+import com.tasks.taskmanagement.application.spring.service.transition.TaskTransitionJobRunner;
 import com.tasks.taskmanagement.domain.entity.Task;
 import com.tasks.taskmanagement.domain.service.TaskService;
-import com.tasks.taskmanagement.domain.validator.TaskValidator;
 import com.tasks.taskmanagement.domain.valueobject.IPage;
 import com.tasks.taskmanagement.domain.valueobject.IPageable;
 import com.tasks.taskmanagement.domain.valueobject.PageableImpl;
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+import com.tasks.taskmanagement.domain.valueobject.TaskOperationResult;
 import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransitionJob;
 import com.tasks.taskmanagement.presentation.dto.TaskDtoImpl;
+import com.tasks.taskmanagement.presentation.dto.TaskOperationDto;
+import com.tasks.taskmanagement.presentation.export.TaskExportFormat;
+import com.tasks.taskmanagement.presentation.export.TaskExporter;
+import com.tasks.taskmanagement.presentation.importer.TaskImportReport;
+import com.tasks.taskmanagement.presentation.importer.TaskImporter;
 import com.tasks.taskmanagement.presentation.mapper.TaskMapper;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * The TaskController class represents the RESTful API controller for managing tasks.
@@ -33,19 +57,79 @@ public class TaskController {
     private final TaskService taskService;
     private final TaskMapper taskMapper;
     private final TaskStatusUpdater taskStatusUpdater;
-    private final TaskValidator compositNotDoneNotPassDue;
+    private final TaskChangeTracker taskChangeTracker;
+    private final TaskStreamBroadcaster taskStreamBroadcaster;
+    private final TaskExporter taskExporter;
+    private final TaskImporter taskImporter;
+    private final TaskTransitionJobRunner taskTransitionJobRunner;
+    private final int maxBatchOperations;
 
     @Autowired
     public TaskController(
             TaskService taskService,
             TaskMapper taskMapper,
             TaskStatusUpdater taskStatusUpdater,
-            @Qualifier("compositNotDoneNotPassDue") TaskValidator compositNotDoneNotPassDue
+            TaskChangeTracker taskChangeTracker,
+            TaskStreamBroadcaster taskStreamBroadcaster,
+            TaskExporter taskExporter,
+            TaskImporter taskImporter,
+            TaskTransitionJobRunner taskTransitionJobRunner,
+            @Value("${tasks.batch.max-operations:1000}") int maxBatchOperations
     ) {
         this.taskService = taskService;
         this.taskMapper = taskMapper;
         this.taskStatusUpdater = taskStatusUpdater;
-        this.compositNotDoneNotPassDue = compositNotDoneNotPassDue;
+        this.taskChangeTracker = taskChangeTracker;
+        this.taskStreamBroadcaster = taskStreamBroadcaster;
+        this.taskExporter = taskExporter;
+        this.taskImporter = taskImporter;
+        this.taskTransitionJobRunner = taskTransitionJobRunner;
+        this.maxBatchOperations = maxBatchOperations;
+    }
+
+    /**
+     * Stream the task changes as server-sent events, optionally filtered by status.
+     * Events are named "saved", "deleted", "deleted-all" and "status-updated"; an "overflow" event means
+     * changes were dropped for a slow client, which should read the task list again.
+     *
+     * @param status Status filter (optional)
+     * @return The stream of task change events.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(@RequestParam(name = "status", required = false) TaskStatus status) {
+        log.info("Subscribing to task changes with status: {}", status);
+        return taskStreamBroadcaster.subscribe(status);
+    }
+
+    /**
+     * Export all tasks, or only the tasks matching the given filter, as NDJSON or CSV.
+     * The tasks are written while they are read from the database, so the export does not load them in memory.
+     *
+     * @param status  Status filter (optional)
+     * @param dueFrom Lowest due date-time, inclusive (optional)
+     * @param dueTo   Highest due date-time, exclusive (optional)
+     * @param format  "ndjson" (default) or "csv"
+     * @return The streamed tasks, as an attachment.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(name = "status", required = false) TaskStatus status,
+            @RequestParam(name = "dueFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(name = "dueTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        TaskExportFormat exportFormat;
+        try {
+            exportFormat = TaskExportFormat.of(format);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+        TaskFilter filter = new TaskFilter(status, dueFrom, dueTo);
+        log.info("Exporting tasks matching {} as {}", filter, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+                .body(out -> taskExporter.export(filter, exportFormat, out));
     }
 
     /**
@@ -54,16 +138,30 @@ public class TaskController {
      * @param status Status filter (optional)
      * @param page   Page number (default is 0)
      * @param size   Page size (default is 10)
-     * @return A paginated list of tasks.
+     * @param after  Cursor returned as nextCursor by the previous page (optional, empty to start keyset pagination)
+     * @param withTotal Whether to count all matching tasks (default is true, except on the pages after a cursor);
+     *                  false only answers "has next"
+     * @param webRequest The request, checked against the weak ETag of the listed tasks
+     * @return A paginated list of tasks, or 304 Not Modified if the listed tasks did not change.
      */
     @GetMapping("")
     public ResponseEntity<IPage<Task>> getAllTasks(@RequestParam(name = "status", required = false) TaskStatus status,
                                                    @RequestParam(defaultValue = "0") int page,
-                                                   @RequestParam(defaultValue = "10") int size
+                                                   @RequestParam(defaultValue = "10") int size,
+                                                   @RequestParam(name = "after", required = false) String after,
+                                                   @RequestParam(name = "withTotal", required = false) Boolean withTotal,
+                                                   WebRequest webRequest
     ) {
         log.info("Getting all tasks");
+        // Read the counter before the tasks, so a concurrent change can only make the tag older than the page
+        String etag = TaskETag.ofPage(taskChangeTracker.getEpoch(), taskChangeTracker.getVersion(status));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         IPage<Task> tasks;
-        IPageable pageable = new PageableImpl(page, size);
+        // The pages following a cursor are not counted again unless asked for
+        boolean counted = withTotal != null ? withTotal : after == null || after.isEmpty();
+        IPageable pageable = new PageableImpl(page, size, after, counted);
 
         if (status != null) {
             tasks = taskService.findByStatus(pageable, status);
@@ -71,86 +169,113 @@ public class TaskController {
             tasks = taskService.findAll(pageable);
         }
 
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(etag).body(tasks);
     }
 
     /**
-     * Get a task by its ID.
+     * Get a task by its ID, with its version as ETag.
+     * A task whose shown status was updated on the fly does not match its stored version, so it gets no ETag.
      *
-     * @param taskId The ID of the task to retrieve.
-     * @return The task with the given ID.
+     * @param taskId     The ID of the task to retrieve.
+     * @param webRequest The request, checked against the ETag of the task
+     * @return The task with the given ID, or 304 Not Modified if the client already has this version.
      */
     @GetMapping("/{taskId}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long taskId) {
+    public ResponseEntity<Task> getTaskById(@PathVariable Long taskId, WebRequest webRequest) {
         log.info("Getting task by ID: {}", taskId);
         Task task = taskService.findById(taskId).orElseThrow(
                 () -> new EntityNotFoundException("Task not found with ID: " + taskId)
         );
+        TaskStatus storedStatus = task.getStatus();
         taskStatusUpdater.updateStatus(task);
-        return ResponseEntity.ok(task);
+        if (task.getStatus() != storedStatus) {
+            return ResponseEntity.ok(task);
+        }
+        String etag = TaskETag.of(task.getVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(task);
     }
 
     /**
      * Delete a task by its ID.
      *
-     * @param taskId The ID of the task to delete.
+     * @param taskId  The ID of the task to delete.
+     * @param ifMatch The ETag of the version the client expects to delete (optional)
      * @return A success message indicating that the task was deleted.
      */
     @DeleteMapping("/{taskId}")
-    public ResponseEntity<String> deleteTask(@PathVariable Long taskId) {
+    public ResponseEntity<String> deleteTask(@PathVariable Long taskId,
+                                             @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Deleting task by ID: {}", taskId);
-        Task task = taskService.findById(taskId).orElseThrow(
-                () -> new EntityNotFoundException("Task not found with ID: " + taskId)
-        );
-        taskService.delete(task);
+        taskService.deleteById(taskId, TaskETag.parseIfMatch(ifMatch));
         return ResponseEntity.ok("Task deleted successfully");
     }
 
     /**
-     * Delete all tasks.
+     * Delete all tasks, or only the tasks matching the given filter.
+     * A filtered delete keeps the tasks that cannot be deleted, such as DONE or PAST_DUE tasks.
+     *
+     * @param status  Status filter (optional)
+     * @param dueFrom Lowest due date-time, inclusive (optional)
+     * @param dueTo   Highest due date-time, exclusive (optional)
+     * @return The number of deleted tasks.
      */
     @DeleteMapping("")
-    public void deleteAllTasks() {
-        log.info("Deleting all tasks");
-        taskService.deleteAll();
+    public ResponseEntity<Map<String, Long>> deleteAllTasks(
+            @RequestParam(name = "status", required = false) TaskStatus status,
+            @RequestParam(name = "dueFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(name = "dueTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo
+    ) {
+        TaskFilter filter = new TaskFilter(status, dueFrom, dueTo);
+        long deleted;
+        if (filter.isEmpty()) {
+            log.info("Deleting all tasks");
+            deleted = taskService.deleteAll();
+        } else {
+            log.info("Deleting tasks matching {}", filter);
+            deleted = taskService.deleteAll(filter);
+        }
+        return ResponseEntity.ok(Map.of("deleted", deleted));
     }
 
     /**
      * Partially update a task by its ID using a patch request.
+     * The save fails with 412 if the task was modified since it was read or is not the If-Match version.
      *
      * @param taskId   The ID of the task to update.
      * @param taskDto  The partial task data to apply.
+     * @param ifMatch  The ETag of the version the client expects to update (optional)
      * @return The updated task.
      */
     @PatchMapping("/{taskId}")
-    public ResponseEntity<Task> updateTaskPartially(@PathVariable Long taskId, @RequestBody TaskDtoImpl taskDto) {
+    public ResponseEntity<Task> updateTaskPartially(@PathVariable Long taskId,
+                                                    @RequestBody TaskDtoImpl taskDto,
+                                                    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Partially updating task by ID: {}", taskId);
-        Task task = taskService.findById(taskId).orElseThrow(
-                () -> new EntityNotFoundException("Task not found with ID: " + taskId)
-        );
-        compositNotDoneNotPassDue.validate(task);
-        taskMapper.patchFromDto(task, taskDto);
-        taskService.save(task);
-        return ResponseEntity.ok(task);
+        Task saved = taskService.update(taskId, TaskETag.parseIfMatch(ifMatch),
+                task -> taskMapper.patchFromDto(task, taskDto));
+        return ResponseEntity.ok().eTag(TaskETag.of(saved.getVersion())).body(saved);
     }
 
     /**
      * Update a task by its ID.
+     * The save fails with 412 if the task was modified since it was read or is not the If-Match version.
      *
      * @param taskId   The ID of the task to update.
      * @param taskDto  The updated task data.
+     * @param ifMatch  The ETag of the version the client expects to update (optional)
      * @return A success message indicating that the task was updated.
      */
     @PutMapping("/{taskId}")
-    public ResponseEntity<String> updateTask(@PathVariable Long taskId, @RequestBody @Valid TaskDtoImpl taskDto) {
+    public ResponseEntity<String> updateTask(@PathVariable Long taskId,
+                                             @RequestBody @Valid TaskDtoImpl taskDto,
+                                             @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating task by ID: {}", taskId);
-        Task task = taskService.findById(taskId).orElseThrow(
-                () -> new EntityNotFoundException("Task not found with ID: " + taskId)
-        );
-        compositNotDoneNotPassDue.validate(task);
-        taskMapper.updateFromDto(task, taskDto);
-        taskService.save(task);
-        return ResponseEntity.ok("Task updated successfully");
+        Task saved = taskService.update(taskId, TaskETag.parseIfMatch(ifMatch),
+                task -> taskMapper.updateFromDto(task, taskDto));
+        return ResponseEntity.ok().eTag(TaskETag.of(saved.getVersion())).body("Task updated successfully");
     }
 
     /**
@@ -165,4 +290,84 @@ public class TaskController {
         Task task = taskService.save(taskMapper.createFrom(taskPatchRequest));
         return ResponseEntity.ok(task);
     }
+
+    /**
+     * Create tasks from an NDJSON or CSV body in the format of the export, read as it is received.
+     * Records failing validation are reported by line without stopping the import; IDs and versions are ignored.
+     *
+     * @param contentType "application/x-ndjson" or "text/csv"
+     * @param body        The records to import.
+     * @return The numbers of imported and rejected records, with the errors of the first rejected records.
+     * @throws IOException if the body cannot be read.
+     */
+    @PostMapping(path = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<TaskImportReport> importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                        InputStream body) throws IOException {
+        TaskExportFormat format = TaskExportFormat.of(contentType);
+        log.info("Importing tasks as {}", format);
+        return ResponseEntity.ok(taskImporter.importTasks(format, body));
+    }
+
+    /**
+     * Execute a batch of create, patch and delete operations in a single transaction, loading the referenced
+     * tasks at once and flushing all changes together.
+     * An all-or-nothing batch applies nothing if any operation fails, and answers 400 Bad Request;
+     * a best-effort batch applies the operations that pass.
+     *
+     * @param operations The operations, in order; a task may only be referenced by one of them.
+     * @param atomic     Whether the batch is all-or-nothing (default is true)
+     * @return The result of each operation, in the same order.
+     */
+    @PostMapping(value = "/batch", consumes = "application/json")
+    public ResponseEntity<List<TaskOperationResult>> executeBatch(@RequestBody List<TaskOperationDto> operations,
+                                                                  @RequestParam(defaultValue = "true") boolean atomic) {
+        if (operations.size() > maxBatchOperations) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A batch holds at most " + maxBatchOperations + " operations");
+        }
+        log.info("Executing a batch of {} operations, atomic: {}", operations.size(), atomic);
+        List<TaskOperationResult> results = taskService.executeAll(
+                operations.stream().map(taskMapper::toOperation).toList(), atomic);
+        boolean failed = results.stream().anyMatch(result -> result.outcome().isFailure());
+        return ResponseEntity.status(atomic && failed ? HttpStatus.BAD_REQUEST : HttpStatus.OK).body(results);
+    }
+
+    /**
+     * Start a background job moving the tasks matching the given filter to a status.
+     * Only the tasks the status update rules allow are moved: DONE tasks stay DONE, tasks only become PAST_DUE
+     * once their due date-time passed, and tasks moved to DONE are completed now.
+     *
+     * @param status       Status filter (optional)
+     * @param dueFrom      Lowest due date-time, inclusive (optional)
+     * @param dueTo        Highest due date-time, exclusive (optional)
+     * @param targetStatus The status to move the tasks to.
+     * @return 202 Accepted with the queued job, located at its progress endpoint.
+     */
+    @PostMapping("/transitions")
+    public ResponseEntity<TaskTransitionJob> submitTransition(
+            @RequestParam(name = "status", required = false) TaskStatus status,
+            @RequestParam(name = "dueFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(name = "dueTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(name = "targetStatus") TaskStatus targetStatus
+    ) {
+        TaskFilter filter = new TaskFilter(status, dueFrom, dueTo);
+        log.info("Submitting a transition of the tasks matching {} to {}", filter, targetStatus);
+        TaskTransitionJob job = taskTransitionJobRunner.submit(filter, targetStatus);
+        return ResponseEntity.accepted()
+                .header(HttpHeaders.LOCATION, "/api/tasks/transitions/" + job.id())
+                .body(job);
+    }
+
+    /**
+     * Get the progress of a transition job, from any node.
+     *
+     * @param jobId The ID of the job.
+     * @return The job with its state and the number of tasks moved so far.
+     */
+    @GetMapping("/transitions/{jobId}")
+    public ResponseEntity<TaskTransitionJob> getTransition(@PathVariable Long jobId) {
+        return ResponseEntity.ok(taskTransitionJobRunner.find(jobId).orElseThrow(
+                () -> new EntityNotFoundException("Transition job not found with ID: " + jobId)
+        ));
+    }
 }
@@ -0,0 +1,63 @@
+package com.tasks.taskmanagement.presentation.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * The TaskETag class converts task versions to entity tags and parses the If-Match header of requests.
+ * A single task has a strong entity tag, its version; a list page has a weak one, the change counter of the listed tasks.
+ */
+public final class TaskETag {
+
+    private static final String ANY = "*";
+
+    private TaskETag() {
+    }
+
+    /**
+     * Get the entity tag of a task version.
+     *
+     * @param version The version of the task.
+     * @return The quoted entity tag.
+     */
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Get the weak entity tag of a list page from the change counter of the listed tasks.
+     *
+     * @param epoch   The epoch of the change counters.
+     * @param version The change counter of the listed tasks.
+     * @return The weak entity tag.
+     */
+    public static String ofPage(long epoch, long version) {
+        return "W/\"" + epoch + "-" + version + "\"";
+    }
+
+    /**
+     * Parse the version expected by an If-Match header.
+     *
+     * @param ifMatch The If-Match header, possibly null.
+     * @return The expected version, or null if the header is absent or matches any version.
+     * @throws ResponseStatusException with 400 if the header is not a task entity tag,
+     *                                 or with 412 if it is a weak one, as If-Match uses the strong comparison.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Weak If-Match header: " + ifMatch);
+        }
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
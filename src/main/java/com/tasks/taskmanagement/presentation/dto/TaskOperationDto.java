@@ -0,0 +1,51 @@
+package com.tasks.taskmanagement.presentation.dto;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskOperation;
+
+/**
+ * One operation of a batch request: a create with a full task, a patch of the given fields of a task,
+ * or a delete of a task, optionally at an expected version.
+ */
+public class TaskOperationDto {
+
+    private TaskOperation.Type op;
+
+    private Long id;
+
+    private Long version;
+
+    private TaskDtoImpl task;
+
+
+    public TaskOperation.Type getOp() {
+        return op;
+    }
+
+    public void setOp(TaskOperation.Type op) {
+        this.op = op;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public TaskDtoImpl getTask() {
+        return task;
+    }
+
+    public void setTask(TaskDtoImpl task) {
+        this.task = task;
+    }
+}
@@ -1,8 +1,12 @@
 package com.tasks.taskmanagement.presentation.exception;
 
+import com.tasks.taskmanagement.application.spring.exception.TaskBatchValidationException;
 import com.tasks.taskmanagement.application.spring.exception.TaskValidationException;
+import com.tasks.taskmanagement.application.spring.exception.TaskVersionConflictException;
+import com.tasks.taskmanagement.domain.exception.InvalidTaskCursorException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -68,6 +72,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
 
+    /**
+     * Handles the TaskBatchValidationException, which occurs when tasks of a batch fail validation.
+     * @param ex The TaskBatchValidationException to be handled.
+     * @return ResponseEntity with HttpStatus.BAD_REQUEST and the errors of every rejected task.
+     */
+    @ExceptionHandler(TaskBatchValidationException.class)
+    public ResponseEntity<Map<String, List<String>>> handleTaskBatchValidationException(TaskBatchValidationException ex) {
+        List<String> errors = ex.getRejections().stream()
+                .map(rejection -> "Task " + rejection.index() + ": " + rejection.message()).collect(Collectors.toList());
+        log.error("{}: {}", ex.getMessage(), errors);
+        return new ResponseEntity<>(getErrorsMap(errors), new HttpHeaders(), HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles the TaskValidationException, which occurs when task validation fails.
      * @param ex The TaskValidationException to be handled.
@@ -78,4 +95,37 @@ public class GlobalExceptionHandler {
         log.error("errors: {}", ex.getMessage(), ex);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
+
+    /**
+     * Handles the TaskVersionConflictException, which occurs when the If-Match version of a request is not the current one.
+     * @param ex The TaskVersionConflictException to be handled.
+     * @return ResponseEntity with HttpStatus.PRECONDITION_FAILED and an error message.
+     */
+    @ExceptionHandler(TaskVersionConflictException.class)
+    public ResponseEntity<String> handleTaskVersionConflictException(TaskVersionConflictException ex) {
+        log.warn("Version conflict: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ex.getMessage());
+    }
+
+    /**
+     * Handles the OptimisticLockingFailureException, which occurs when a task was modified between its read and its save.
+     * @param ex The OptimisticLockingFailureException to be handled.
+     * @return ResponseEntity with HttpStatus.PRECONDITION_FAILED and an error message.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.warn("Optimistic locking failure: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body("The task was modified concurrently");
+    }
+
+    /**
+     * Handles the InvalidTaskCursorException, which occurs when a request carries a page cursor the task list did not issue.
+     * @param ex The InvalidTaskCursorException to be handled.
+     * @return ResponseEntity with HttpStatus.BAD_REQUEST and an error message.
+     */
+    @ExceptionHandler(InvalidTaskCursorException.class)
+    public ResponseEntity<String> handleInvalidTaskCursorException(InvalidTaskCursorException ex) {
+        log.warn("Invalid cursor: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
 }
@@ -0,0 +1,68 @@
+package com.tasks.taskmanagement.presentation.export;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * The formats of the task export.
+ */
+public enum TaskExportFormat {
+
+    /**
+     * One JSON object per line, as returned by the task endpoints.
+     */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+
+    /**
+     * Comma-separated values with a header line.
+     */
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    TaskExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Get the format of a name, regardless of case.
+     *
+     * @param name The name of the format.
+     * @return The format.
+     * @throws IllegalArgumentException if there is no such format.
+     */
+    public static TaskExportFormat of(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported export format: " + name);
+        }
+    }
+
+    /**
+     * Get the format of a media type, ignoring its parameters such as the charset.
+     *
+     * @param mediaType The media type.
+     * @return The format.
+     * @throws IllegalArgumentException if there is no such format.
+     */
+    public static TaskExportFormat of(MediaType mediaType) {
+        for (TaskExportFormat format : values()) {
+            if (format.mediaType.equalsTypeAndSubtype(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported media type: " + mediaType);
+    }
+}
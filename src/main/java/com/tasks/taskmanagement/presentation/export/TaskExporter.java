@@ -0,0 +1,23 @@
+package com.tasks.taskmanagement.presentation.export;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An interface for writing the tasks to an output stream in an export format.
+ */
+public interface TaskExporter {
+
+    /**
+     * Write every task matching a filter to an output stream, as they are read.
+     *
+     * @param filter The filter selecting the tasks.
+     * @param format The format to write.
+     * @param out    The output stream, left open.
+     * @return The number of written tasks.
+     * @throws IOException if the output stream fails.
+     */
+    long export(TaskFilter filter, TaskExportFormat format, OutputStream out) throws IOException;
+}
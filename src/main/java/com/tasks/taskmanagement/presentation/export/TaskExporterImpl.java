@@ -0,0 +1,140 @@
+package com.tasks.taskmanagement.presentation.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of the TaskExporter interface streaming the tasks from the database cursor to the output stream.
+ * Each task is written as soon as it is read and the output is flushed every few rows, so memory use stays flat
+ * whatever the number of tasks.
+ */
+@Component
+@Slf4j
+public class TaskExporterImpl implements TaskExporter {
+
+    private static final String CSV_HEADER = "id,description,status,creationDateTime,dueDateTime,completionDateTime,version";
+
+    private final TaskService taskService;
+    private final ObjectWriter taskWriter;
+    private final ObjectMapper objectMapper;
+    private final int flushEvery;
+
+    @Autowired
+    public TaskExporterImpl(TaskService taskService,
+                            ObjectMapper objectMapper,
+                            @Value("${tasks.export.flush-every:500}") int flushEvery) {
+        this.taskService = taskService;
+        this.objectMapper = objectMapper;
+        this.taskWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * Write every task matching a filter to an output stream, as they are read.
+     *
+     * @param filter The filter selecting the tasks.
+     * @param format The format to write.
+     * @param out    The output stream, left open.
+     * @return The number of written tasks.
+     * @throws IOException if the output stream fails.
+     */
+    @Override
+    public long export(TaskFilter filter, TaskExportFormat format, OutputStream out) throws IOException {
+        long count;
+        try {
+            count = switch (format) {
+                case NDJSON -> exportNdjson(filter, out);
+                case CSV -> exportCsv(filter, out);
+            };
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        log.info("Exported {} tasks matching {} as {}", count, filter, format);
+        return count;
+    }
+
+    private long exportNdjson(TaskFilter filter, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            return taskService.forEach(filter, flushing(generator::flush, task -> {
+                taskWriter.writeValue(generator, task);
+                generator.writeRaw('\n');
+            }));
+        }
+    }
+
+    private long exportCsv(TaskFilter filter, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = taskService.forEach(filter, flushing(writer::flush, task -> {
+            writer.write(String.join(",",
+                    String.valueOf(task.getId()),
+                    csv(task.getDescription()),
+                    csv(task.getStatus()),
+                    csv(task.getCreationDateTime()),
+                    csv(task.getDueDateTime()),
+                    csv(task.getCompletionDateTime()),
+                    csv(task.getVersion())));
+            writer.write('\n');
+        }));
+        writer.flush();
+        return count;
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    /**
+     * Wrap a writing action into a task consumer flushing every few tasks.
+     */
+    private Consumer<Task> flushing(IoAction flush, IoConsumer write) {
+        long[] written = {0};
+        return task -> {
+            try {
+                write.accept(task);
+                if (++written[0] % flushEvery == 0) {
+                    flush.run();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface IoConsumer {
+        void accept(Task task) throws IOException;
+    }
+}
@@ -0,0 +1,10 @@
+package com.tasks.taskmanagement.presentation.importer;
+
+/**
+ * The TaskImportError record describes a record of an import that was not imported.
+ *
+ * @param line    The line of the input where the record starts.
+ * @param message Why the record was not imported.
+ */
+public record TaskImportError(long line, String message) {
+}
@@ -0,0 +1,14 @@
+package com.tasks.taskmanagement.presentation.importer;
+
+import java.util.List;
+
+/**
+ * The TaskImportReport record sums up an import.
+ * Only the first errors are listed, so the report stays small whatever the size of the input.
+ *
+ * @param imported The number of imported tasks.
+ * @param rejected The number of records that were not imported.
+ * @param errors   The errors of the first rejected records.
+ */
+public record TaskImportReport(long imported, long rejected, List<TaskImportError> errors) {
+}
@@ -0,0 +1,23 @@
+package com.tasks.taskmanagement.presentation.importer;
+
+import com.tasks.taskmanagement.presentation.export.TaskExportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An interface for creating tasks from an input stream in one of the export formats.
+ */
+public interface TaskImporter {
+
+    /**
+     * Create a task for every valid record of an input stream, as they are read.
+     * Invalid records are reported without stopping the import.
+     *
+     * @param format The format to read.
+     * @param in     The input stream, left open.
+     * @return The report of the import.
+     * @throws IOException if the input stream fails.
+     */
+    TaskImportReport importTasks(TaskExportFormat format, InputStream in) throws IOException;
+}
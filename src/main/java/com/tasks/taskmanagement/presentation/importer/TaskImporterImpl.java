@@ -0,0 +1,402 @@
+package com.tasks.taskmanagement.presentation.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.TaskRejection;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.presentation.dto.TaskDtoImpl;
+import com.tasks.taskmanagement.presentation.export.TaskExportFormat;
+import com.tasks.taskmanagement.presentation.mapper.TaskMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the TaskImporter interface reading the records one at a time and saving them in batches.
+ * Each batch is validated and inserted in a transaction of its own through {@link TaskService#saveAllValid},
+ * so memory use only depends on the batch size, and a failing record only rejects itself.
+ * Imported tasks are always new: the IDs and versions of the records, as written by the export, are ignored.
+ */
+@Component
+@Slf4j
+public class TaskImporterImpl implements TaskImporter {
+
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final ObjectReader taskReader;
+    private final int batchSize;
+    private final int maxReportedErrors;
+    private final int maxFieldLength;
+    private final int maxLineLength;
+
+    @Autowired
+    public TaskImporterImpl(TaskService taskService,
+                            TaskMapper taskMapper,
+                            Validator validator,
+                            ObjectMapper objectMapper,
+                            @Value("${tasks.import.batch-size:1000}") int batchSize,
+                            @Value("${tasks.import.max-reported-errors:1000}") int maxReportedErrors,
+                            @Value("${tasks.import.max-field-length:10000}") int maxFieldLength,
+                            @Value("${tasks.import.max-line-length:100000}") int maxLineLength) {
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+        this.validator = validator;
+        this.taskReader = objectMapper.readerFor(TaskDtoImpl.class);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.maxFieldLength = maxFieldLength;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Create a task for every valid record of an input stream, as they are read.
+     * Invalid records are reported without stopping the import.
+     *
+     * @param format The format to read.
+     * @param in     The input stream, left open.
+     * @return The report of the import.
+     * @throws IOException if the input stream fails.
+     */
+    @Override
+    public TaskImportReport importTasks(TaskExportFormat format, InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Batch batch = new Batch();
+        switch (format) {
+            case NDJSON -> importNdjson(reader, batch);
+            case CSV -> importCsv(reader, batch);
+        }
+        batch.flush();
+        TaskImportReport report = new TaskImportReport(batch.imported, batch.rejected, batch.errors);
+        log.info("Imported {} tasks as {}, rejected {} records", report.imported(), format, report.rejected());
+        return report;
+    }
+
+    private void importNdjson(BufferedReader reader, Batch batch) throws IOException {
+        LineReader lines = new LineReader(reader, maxLineLength);
+        long line = 0;
+        String text;
+        while ((text = lines.next()) != null) {
+            line++;
+            if (lines.isTooLong()) {
+                batch.reject(line, "Line longer than " + maxLineLength + " characters");
+                continue;
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            TaskDtoImpl taskDto;
+            try {
+                taskDto = taskReader.readValue(text);
+            } catch (JsonProcessingException ex) {
+                batch.reject(line, "Invalid JSON: " + ex.getOriginalMessage());
+                continue;
+            }
+            batch.add(line, taskDto);
+        }
+    }
+
+    private void importCsv(BufferedReader reader, Batch batch) throws IOException {
+        CsvReader csv = new CsvReader(reader, maxFieldLength);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        if (csv.getError() != null) {
+            batch.reject(csv.getRecordLine(), "Invalid header: " + csv.getError());
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            if (csv.getError() != null) {
+                batch.reject(csv.getRecordLine(), "Invalid record: " + csv.getError());
+                continue;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            TaskDtoImpl taskDto = new TaskDtoImpl();
+            try {
+                taskDto.setDescription(field(record, columns, "description"));
+                String status = field(record, columns, "status");
+                taskDto.setStatus(status != null ? TaskStatus.valueOf(status.trim()) : null);
+                taskDto.setCreationDateTime(dateTime(field(record, columns, "creationDateTime")));
+                taskDto.setDueDateTime(dateTime(field(record, columns, "dueDateTime")));
+                taskDto.setCompletionDateTime(dateTime(field(record, columns, "completionDateTime")));
+            } catch (IllegalArgumentException | DateTimeException ex) {
+                batch.reject(csv.getRecordLine(), "Invalid value: " + ex.getMessage());
+                continue;
+            }
+            batch.add(csv.getRecordLine(), taskDto);
+        }
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer column = columns.get(name);
+        if (column == null || column >= record.size() || record.get(column).isEmpty()) {
+            return null;
+        }
+        return record.get(column);
+    }
+
+    private static LocalDateTime dateTime(String value) {
+        return value != null ? LocalDateTime.parse(value.trim()) : null;
+    }
+
+    /**
+     * The tasks read since the last flush, with the counts of the whole import.
+     */
+    private class Batch {
+
+        private final List<Task> tasks = new ArrayList<>(batchSize);
+        private final List<Long> lines = new ArrayList<>(batchSize);
+        private final List<TaskImportError> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        void add(long line, TaskDtoImpl taskDto) {
+            Set<ConstraintViolation<TaskDtoImpl>> violations = validator.validate(taskDto);
+            if (!violations.isEmpty()) {
+                reject(line, violations.stream().map(ConstraintViolation::getMessage).sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            taskDto.setId(null);
+            tasks.add(taskMapper.createFrom(taskDto));
+            lines.add(line);
+            if (tasks.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new TaskImportError(line, message));
+            }
+        }
+
+        void flush() {
+            if (tasks.isEmpty()) {
+                return;
+            }
+            List<TaskRejection> rejections = taskService.saveAllValid(tasks);
+            for (TaskRejection rejection : rejections) {
+                reject(lines.get(rejection.index()), rejection.message());
+            }
+            imported += tasks.size() - rejections.size();
+            tasks.clear();
+            lines.clear();
+        }
+    }
+
+    /**
+     * Reads lines a character at a time, keeping at most the line length cap in memory:
+     * the rest of an over-long line is skipped up to the next line break.
+     */
+    private static final class LineReader {
+
+        private final BufferedReader reader;
+        private final int maxLineLength;
+        private boolean tooLong;
+
+        LineReader(BufferedReader reader, int maxLineLength) {
+            this.reader = reader;
+            this.maxLineLength = maxLineLength;
+        }
+
+        /**
+         * Read the next line, without its line break.
+         *
+         * @return The line, truncated to the cap if it is too long, or null at the end of the input.
+         */
+        String next() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            tooLong = false;
+            StringBuilder line = new StringBuilder();
+            while (c != -1 && c != '\n') {
+                if (line.length() < maxLineLength) {
+                    line.append((char) c);
+                } else if (c != '\r') {
+                    tooLong = true;
+                }
+                c = reader.read();
+            }
+            int end = line.length();
+            if (end > 0 && line.charAt(end - 1) == '\r') {
+                line.setLength(end - 1);
+            }
+            return line.toString();
+        }
+
+        /**
+         * Get whether the last line read was longer than the cap.
+         *
+         * @return True if the line was truncated.
+         */
+        boolean isTooLong() {
+            return tooLong;
+        }
+    }
+
+    /**
+     * Reads CSV records as written by the export: comma-separated fields, quoted with double quotes
+     * when they hold commas, quotes or line breaks.
+     * The input is read a character at a time, so a malformed record costs at most the field length cap
+     * in memory: a field over the cap, too many fields or a quoted field left open at the end of the input
+     * make the record malformed, and the rest of an over-long field is skipped.
+     */
+    private static final class CsvReader {
+
+        private static final int MAX_FIELDS = 256;
+        private static final int NONE = -2;
+
+        private final BufferedReader reader;
+        private final int maxFieldLength;
+        private int pushedBack = NONE;
+        private long line;
+        private long recordLine;
+        private String error;
+
+        CsvReader(BufferedReader reader, int maxFieldLength) {
+            this.reader = reader;
+            this.maxFieldLength = maxFieldLength;
+        }
+
+        /**
+         * Read the next record, which spans several lines if a quoted field holds line breaks.
+         *
+         * @return The fields of the record, or null at the end of the input.
+         */
+        List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = ++line;
+            error = null;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            append(field, '"');
+                        } else {
+                            quoted = false;
+                            unread(next);
+                        }
+                    } else if (c == '\r' || c == '\n') {
+                        skipLineFeedAfter(c);
+                        line++;
+                        append(field, '\n');
+                    } else {
+                        append(field, (char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    addField(fields, field);
+                } else if (c == '\r' || c == '\n') {
+                    skipLineFeedAfter(c);
+                    break;
+                } else {
+                    append(field, (char) c);
+                }
+                c = read();
+            }
+            if (quoted) {
+                fail("Unterminated quoted field");
+            }
+            addField(fields, field);
+            return fields;
+        }
+
+        /**
+         * Get why the last record read is malformed.
+         *
+         * @return The error, or null if the record is well-formed.
+         */
+        String getError() {
+            return error;
+        }
+
+        long getRecordLine() {
+            return recordLine;
+        }
+
+        private void append(StringBuilder field, char c) {
+            if (field.length() < maxFieldLength) {
+                field.append(c);
+            } else {
+                fail("Field longer than " + maxFieldLength + " characters");
+            }
+        }
+
+        private void addField(List<String> fields, StringBuilder field) {
+            if (fields.size() < MAX_FIELDS) {
+                fields.add(field.toString());
+            } else {
+                fail("More than " + MAX_FIELDS + " fields");
+            }
+            field.setLength(0);
+        }
+
+        private void fail(String message) {
+            if (error == null) {
+                error = message;
+            }
+        }
+
+        private void skipLineFeedAfter(int c) throws IOException {
+            if (c == '\r') {
+                int next = read();
+                if (next != '\n') {
+                    unread(next);
+                }
+            }
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != NONE) {
+                int c = pushedBack;
+                pushedBack = NONE;
+                return c;
+            }
+            return reader.read();
+        }
+
+        private void unread(int c) {
+            pushedBack = c;
+        }
+    }
+}
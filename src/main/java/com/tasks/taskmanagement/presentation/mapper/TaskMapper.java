@@ -1,7 +1,11 @@
 package com.tasks.taskmanagement.presentation.mapper;
 
 import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.valueobject.TaskOperation;
 import com.tasks.taskmanagement.presentation.dto.TaskDto;
+import com.tasks.taskmanagement.presentation.dto.TaskOperationDto;
+
+import java.util.Set;
 
 /**
  * An interface for mapping between Task entities and TaskDto objects.
@@ -21,14 +25,26 @@ public interface TaskMapper {
      *
      * @param task             The Task entity to update.
      * @param taskPatchRequest The TaskDto object containing the updated data.
+     * @return The names of the changed fields, empty if the task already had the data.
      */
-    void updateFromDto(Task task, TaskDto taskPatchRequest);
+    Set<String> updateFromDto(Task task, TaskDto taskPatchRequest);
 
     /**
      * Patches a Task entity based on the data in a TaskDto object.
      *
      * @param task             The Task entity to patch.
      * @param taskPatchRequest The TaskDto object containing the data for patching.
+     * @return The names of the changed fields, empty if the task already had the data.
+     */
+    Set<String> patchFromDto(Task task, TaskDto taskPatchRequest);
+
+    /**
+     * Creates a batch operation from a TaskOperationDto object.
+     * The fields of a create are checked when the operation is executed, so a create with missing fields
+     * only fails its own operation.
+     *
+     * @param operationDto The TaskOperationDto object to create the operation from.
+     * @return The operation.
      */
-    void patchFromDto(Task task, TaskDto taskPatchRequest);
+    TaskOperation toOperation(TaskOperationDto operationDto);
 }
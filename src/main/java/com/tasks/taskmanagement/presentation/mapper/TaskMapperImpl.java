@@ -1,12 +1,24 @@
 package com.tasks.taskmanagement.presentation.mapper;
 
+import com.tasks.taskmanagement.application.spring.exception.TaskValidationException;
 import com.tasks.taskmanagement.domain.entity.Task;
 import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.TaskOperation;
 import com.tasks.taskmanagement.presentation.dto.TaskDto;
+import com.tasks.taskmanagement.presentation.dto.TaskDtoImpl;
+import com.tasks.taskmanagement.presentation.dto.TaskOperationDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
 /**
  * Implementation of the TaskMapper interface for mapping between Task entities and TaskDto objects.
  */
@@ -15,10 +27,12 @@ import org.springframework.stereotype.Component;
 public class TaskMapperImpl implements TaskMapper {
 
     private final TaskService taskService;
+    private final Validator validator;
 
     @Autowired
-    public TaskMapperImpl(TaskService taskService) {
+    public TaskMapperImpl(TaskService taskService, Validator validator) {
         this.taskService = taskService;
+        this.validator = validator;
     }
 
     /**
@@ -29,51 +43,99 @@ public class TaskMapperImpl implements TaskMapper {
      */
     public Task createFrom(TaskDto taskPatchRequest) {
         Task task = taskService.newEntity();
+        if (taskPatchRequest.getId() != null) {
+            task.setId(taskPatchRequest.getId());
+        }
         patchFromDto(task, taskPatchRequest);
-        log.info("Created Task from TaskDto: {}", task);
+        log.debug("Created Task from TaskDto: {}", task);
         return task;
     }
 
     /**
      * Updates a Task entity based on the data in a TaskDto object.
+     * Only the fields whose value differs are set, so a managed task is only dirty in the changed columns.
      *
      * @param task             The Task entity to update.
      * @param taskPatchRequest The TaskDto object containing the updated data.
+     * @return The names of the changed fields.
      */
-    public void updateFromDto(Task task, TaskDto taskPatchRequest) {
-        task.setDescription(taskPatchRequest.getDescription());
-        task.setCreationDateTime(taskPatchRequest.getCreationDateTime());
-        task.setDueDateTime(taskPatchRequest.getDueDateTime());
-        task.setCompletionDateTime(taskPatchRequest.getCompletionDateTime());
-        task.setStatus(taskPatchRequest.getStatus());
-        log.info("Updated Task from TaskDto: {}", task);
+    public Set<String> updateFromDto(Task task, TaskDto taskPatchRequest) {
+        Set<String> changes = new LinkedHashSet<>();
+        change(changes, "description", task.getDescription(), taskPatchRequest.getDescription(), task::setDescription);
+        change(changes, "creationDateTime", task.getCreationDateTime(), taskPatchRequest.getCreationDateTime(), task::setCreationDateTime);
+        change(changes, "dueDateTime", task.getDueDateTime(), taskPatchRequest.getDueDateTime(), task::setDueDateTime);
+        change(changes, "completionDateTime", task.getCompletionDateTime(), taskPatchRequest.getCompletionDateTime(), task::setCompletionDateTime);
+        change(changes, "status", task.getStatus(), taskPatchRequest.getStatus(), task::setStatus);
+        log.debug("Updated {} of Task from TaskDto: {}", changes, task);
+        return changes;
     }
 
     /**
      * Patches a Task entity based on the data in a TaskDto object.
+     * The ID of the task is never patched, and only the fields present and different are set.
      *
      * @param task             The Task entity to patch.
      * @param taskPatchRequest The TaskDto object containing the data for patching.
+     * @return The names of the changed fields.
      */
-    public void patchFromDto(Task task, TaskDto taskPatchRequest) {
-        if (taskPatchRequest.getId() != null) {
-            task.setId(taskPatchRequest.getId());
-        }
+    public Set<String> patchFromDto(Task task, TaskDto taskPatchRequest) {
+        Set<String> changes = new LinkedHashSet<>();
         if (taskPatchRequest.getDescription() != null) {
-            task.setDescription(taskPatchRequest.getDescription());
+            change(changes, "description", task.getDescription(), taskPatchRequest.getDescription(), task::setDescription);
         }
         if (taskPatchRequest.getCreationDateTime() != null) {
-            task.setCreationDateTime(taskPatchRequest.getCreationDateTime());
+            change(changes, "creationDateTime", task.getCreationDateTime(), taskPatchRequest.getCreationDateTime(), task::setCreationDateTime);
         }
         if (taskPatchRequest.getDueDateTime() != null) {
-            task.setDueDateTime(taskPatchRequest.getDueDateTime());
+            change(changes, "dueDateTime", task.getDueDateTime(), taskPatchRequest.getDueDateTime(), task::setDueDateTime);
         }
         if (taskPatchRequest.getCompletionDateTime() != null) {
-            task.setCompletionDateTime(taskPatchRequest.getCompletionDateTime());
+            change(changes, "completionDateTime", task.getCompletionDateTime(), taskPatchRequest.getCompletionDateTime(), task::setCompletionDateTime);
         }
         if (taskPatchRequest.getStatus() != null) {
-            task.setStatus(taskPatchRequest.getStatus());
+            change(changes, "status", task.getStatus(), taskPatchRequest.getStatus(), task::setStatus);
+        }
+        log.debug("Patched {} of Task from TaskDto: {}", changes, task);
+        return changes;
+    }
+
+    /**
+     * Creates a batch operation from a TaskOperationDto object.
+     * The fields of a create are checked when the operation is executed, so a create with missing fields
+     * only fails its own operation.
+     *
+     * @param operationDto The TaskOperationDto object to create the operation from.
+     * @return The operation.
+     */
+    public TaskOperation toOperation(TaskOperationDto operationDto) {
+        TaskDtoImpl taskDto = operationDto.getTask();
+        if (operationDto.getOp() == null) {
+            throw new TaskValidationException("Operation cannot be null");
+        }
+        return switch (operationDto.getOp()) {
+            case CREATE -> {
+                if (taskDto == null) {
+                    throw new TaskValidationException("A create operation needs a task");
+                }
+                yield TaskOperation.create(task -> {
+                    Set<ConstraintViolation<TaskDtoImpl>> violations = validator.validate(taskDto);
+                    if (!violations.isEmpty()) {
+                        throw new TaskValidationException(violations.stream().map(ConstraintViolation::getMessage)
+                                .sorted().collect(Collectors.joining("; ")));
+                    }
+                    return patchFromDto(task, taskDto);
+                });
+            }
+            case PATCH -> TaskOperation.patch(operationDto.getId(), operationDto.getVersion(),
+                    task -> taskDto != null ? patchFromDto(task, taskDto) : Set.of());
+            case DELETE -> TaskOperation.delete(operationDto.getId(), operationDto.getVersion());
+        };
+    }
+
+    private static <T> void change(Set<String> changes, String field, T current, T value, Consumer<T> setter) {
+        if (!Objects.equals(current, value)) {
+            setter.accept(value);
+            changes.add(field);
         }
-        log.info("Patched Task from TaskDto: {}", task);
     }
 }
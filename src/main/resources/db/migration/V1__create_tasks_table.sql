@@ -0,0 +1,9 @@
+CREATE TABLE tasks
+(
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    description          VARCHAR(255) NOT NULL,
+    creation_date_time   TIMESTAMP(6) NOT NULL,
+    due_date_time        TIMESTAMP(6),
+    completion_date_time TIMESTAMP(6),
+    status               VARCHAR(255) NOT NULL
+);
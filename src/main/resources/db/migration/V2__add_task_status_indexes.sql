@@ -0,0 +1,5 @@
+-- Serves findByStatusAndDueDateTimeBefore and the past-due status UPDATE.
+CREATE INDEX idx_tasks_status_due_date_time ON tasks (status, due_date_time);
+
+-- Serves findByStatus and keyset pagination by status.
+CREATE INDEX idx_tasks_status_id ON tasks (status, id);
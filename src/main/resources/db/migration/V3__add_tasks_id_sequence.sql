@@ -0,0 +1,2 @@
+-- Pooled ID allocation: each nextval reserves a block of 50 IDs, which lets Hibernate batch inserts.
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,2 @@
+-- Optimistic locking version of each task, exposed to clients as its ETag
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
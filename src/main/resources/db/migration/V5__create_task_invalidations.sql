@@ -0,0 +1,12 @@
+-- Log of the task writes, tailed by every node to invalidate its caches; a NULL task_id covers every task
+-- with one of the statuses.
+CREATE TABLE task_invalidations
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    node_id    VARCHAR(36)  NOT NULL,
+    task_id    BIGINT,
+    statuses   VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_task_invalidations_created_at ON task_invalidations (created_at);
@@ -0,0 +1,7 @@
+-- Leases of the scheduled jobs that must run on a single node at a time; a lease is free once expired.
+CREATE TABLE scheduler_leases
+(
+    name       VARCHAR(64)  NOT NULL PRIMARY KEY,
+    owner      VARCHAR(64)  NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL
+);
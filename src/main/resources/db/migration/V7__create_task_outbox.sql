@@ -0,0 +1,9 @@
+-- Status transitions of the tasks, recorded in the transaction of the write and deleted once relayed.
+CREATE TABLE task_outbox
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id     BIGINT       NOT NULL,
+    old_status  VARCHAR(255),
+    new_status  VARCHAR(255) NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL
+);
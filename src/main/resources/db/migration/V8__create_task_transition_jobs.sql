@@ -0,0 +1,16 @@
+-- Bulk status transition jobs, with their progress, for any node to report on.
+CREATE TABLE task_transition_jobs
+(
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    status        VARCHAR(255),
+    due_from      TIMESTAMP(6),
+    due_to        TIMESTAMP(6),
+    target_status VARCHAR(255) NOT NULL,
+    state         VARCHAR(255) NOT NULL,
+    total         BIGINT       NOT NULL,
+    updated       BIGINT       NOT NULL,
+    error         VARCHAR(1000),
+    created_at    TIMESTAMP(6) NOT NULL,
+    started_at    TIMESTAMP(6),
+    finished_at   TIMESTAMP(6)
+);
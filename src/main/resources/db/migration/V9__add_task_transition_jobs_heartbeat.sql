@@ -0,0 +1,2 @@
+-- Refreshed while a node runs or queues a job, so the jobs of a stopped node can be recorded as failed.
+ALTER TABLE task_transition_jobs ADD COLUMN heartbeat_at TIMESTAMP(6);
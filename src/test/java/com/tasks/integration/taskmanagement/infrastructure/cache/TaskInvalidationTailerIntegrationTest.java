@@ -0,0 +1,106 @@
+package com.tasks.integration.taskmanagement.infrastructure.cache;
+
+import com.tasks.taskmanagement.application.spring.service.changetracking.TaskChangeTracker;
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.repository.TaskRepository;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.infrastructure.cache.TaskInvalidation;
+import com.tasks.taskmanagement.infrastructure.cache.TaskInvalidationLog;
+import com.tasks.taskmanagement.infrastructure.cache.TaskInvalidationTailer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the writes are appended to the invalidation log and that the writes of another node,
+ * made directly in the database, reach the cache of this node through the log.
+ */
+@SpringBootTest(properties = "taskcache.invalidation.enabled=true")
+public class TaskInvalidationTailerIntegrationTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskInvalidationLog invalidationLog;
+
+    @Autowired
+    private TaskInvalidationTailer tailer;
+
+    @Autowired
+    private TaskChangeTracker taskChangeTracker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        tailer.poll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void save_ShouldAppendTheTaskToTheLog() {
+        Task task = saveTask("Logged task");
+
+        List<TaskInvalidation> entries = invalidationLog.readSince(
+                invalidationLog.currentTimestamp().minusMinutes(1), 0, 100);
+
+        assertTrue(entries.stream().anyMatch(entry -> task.getId().equals(entry.taskId())
+                && entry.nodeId().equals(invalidationLog.getNodeId())
+                && entry.statuses().contains(TaskStatus.NOT_DONE)));
+    }
+
+    @Test
+    void poll_ShouldInvalidateTheTasksWrittenByAnotherNode() {
+        Task task = saveTask("Cached description");
+        assertEquals("Cached description", taskRepository.findById(task.getId()).orElseThrow().getDescription());
+
+        // Another node updates the task and appends the write to the log
+        jdbcTemplate.update("UPDATE tasks SET description = ?, version = version + 1 WHERE id = ?",
+                "Remote description", task.getId());
+        jdbcTemplate.update("INSERT INTO task_invalidations (node_id, task_id, statuses, created_at) "
+                + "VALUES ('other-node', ?, 'NOT_DONE', LOCALTIMESTAMP)", task.getId());
+        assertEquals("Cached description", taskRepository.findById(task.getId()).orElseThrow().getDescription());
+
+        tailer.poll();
+
+        assertEquals("Remote description", taskRepository.findById(task.getId()).orElseThrow().getDescription());
+    }
+
+    @Test
+    void poll_ShouldMoveTheChangeCounters_OfTheStatusesWrittenByAnotherNode() {
+        long notDoneVersion = taskChangeTracker.getVersion(TaskStatus.NOT_DONE);
+        long doneVersion = taskChangeTracker.getVersion(TaskStatus.DONE);
+        long allVersion = taskChangeTracker.getVersion(null);
+
+        // Another node inserts a task, so the list ETags of this node must change
+        jdbcTemplate.update("INSERT INTO task_invalidations (node_id, task_id, statuses, created_at) "
+                + "VALUES ('other-node', NULL, 'NOT_DONE', LOCALTIMESTAMP)");
+        tailer.poll();
+
+        assertTrue(taskChangeTracker.getVersion(TaskStatus.NOT_DONE) > notDoneVersion);
+        assertTrue(taskChangeTracker.getVersion(null) > allVersion);
+        assertEquals(doneVersion, taskChangeTracker.getVersion(TaskStatus.DONE));
+    }
+
+    private Task saveTask(String description) {
+        Task task = taskRepository.newEntity();
+        task.setDescription(description);
+        task.setStatus(TaskStatus.NOT_DONE);
+        return taskRepository.save(task);
+    }
+}
@@ -0,0 +1,53 @@
+package com.tasks.integration.taskmanagement.infrastructure.persistence.job;
+
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransitionJob;
+import com.tasks.taskmanagement.infrastructure.persistence.job.TaskTransitionJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class TaskTransitionJobRepositoryIntegrationTest {
+
+    private static final TaskFilter FILTER = new TaskFilter(TaskStatus.NOT_DONE, null, null);
+
+    @Autowired
+    private TaskTransitionJobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task_transition_jobs");
+    }
+
+    @Test
+    void failStale_ShouldFailTheQueuedAndRunningJobs_OfStoppedNodes() {
+        Long queued = jobRepository.create(FILTER, TaskStatus.DONE, 1).id();
+        Long running = jobRepository.create(FILTER, TaskStatus.DONE, 1).id();
+        jobRepository.markRunning(running);
+        Long succeeded = jobRepository.create(FILTER, TaskStatus.DONE, 1).id();
+        jobRepository.finish(succeeded, TaskTransitionJob.State.SUCCEEDED, 1, null);
+        Long alive = jobRepository.create(FILTER, TaskStatus.DONE, 1).id();
+        jdbcTemplate.update("UPDATE task_transition_jobs SET heartbeat_at = DATEADD(MINUTE, -5, LOCALTIMESTAMP)");
+        jobRepository.touch(List.of(alive));
+
+        assertEquals(2, jobRepository.failStale(Duration.ofMinutes(1), "Stopped with its node"));
+
+        assertEquals(TaskTransitionJob.State.FAILED, jobRepository.findById(queued).orElseThrow().state());
+        assertEquals(TaskTransitionJob.State.FAILED, jobRepository.findById(running).orElseThrow().state());
+        assertEquals("Stopped with its node", jobRepository.findById(running).orElseThrow().error());
+        assertEquals(TaskTransitionJob.State.SUCCEEDED, jobRepository.findById(succeeded).orElseThrow().state());
+        assertEquals(TaskTransitionJob.State.QUEUED, jobRepository.findById(alive).orElseThrow().state());
+    }
+}
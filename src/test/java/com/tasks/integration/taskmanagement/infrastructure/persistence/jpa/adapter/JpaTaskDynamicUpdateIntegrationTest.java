@@ -0,0 +1,85 @@
+package com.tasks.integration.taskmanagement.infrastructure.persistence.jpa.adapter;
+
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.entity.TaskImpl;
+import com.tasks.taskmanagement.domain.repository.TaskRepository;
+import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.tasks.integration.taskmanagement.infrastructure.persistence.jpa.adapter."
+        + "JpaTaskDynamicUpdateIntegrationTest$RecordingStatementInspector")
+public class JpaTaskDynamicUpdateIntegrationTest {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void update_ShouldOnlyWriteTheChangedColumns() {
+        Task task = new TaskImpl("Dynamic update", LocalDateTime.now());
+        task.setStatus(TaskStatus.NOT_DONE);
+        task.setDueDateTime(LocalDateTime.now().plusDays(1));
+        Long id = taskRepository.save(task).getId();
+        STATEMENTS.clear();
+
+        taskService.update(id, null, changed -> {
+            changed.setDescription("Renamed");
+            return Set.of("description");
+        });
+
+        List<String> updates = STATEMENTS.stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.startsWith("update tasks"))
+                .toList();
+        assertEquals(1, updates.size(), updates.toString());
+        String setClause = updates.get(0).substring(0, updates.get(0).indexOf(" where "));
+        assertTrue(setClause.contains("description=?"), setClause);
+        assertTrue(setClause.contains("version=?"), setClause);
+        assertFalse(setClause.contains("status"), setClause);
+        assertFalse(setClause.contains("due_date_time"), setClause);
+        assertFalse(setClause.contains("creation_date_time"), setClause);
+        assertFalse(setClause.contains("completion_date_time"), setClause);
+    }
+
+    /**
+     * Records the SQL statements Hibernate prepares.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
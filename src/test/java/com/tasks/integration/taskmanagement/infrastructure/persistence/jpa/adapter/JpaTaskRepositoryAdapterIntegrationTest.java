@@ -5,6 +5,8 @@ import com.tasks.taskmanagement.domain.entity.TaskImpl;
 import com.tasks.taskmanagement.domain.repository.TaskRepository;
 import com.tasks.taskmanagement.domain.valueobject.IPage;
 import com.tasks.taskmanagement.domain.valueobject.PageableImpl;
+import com.tasks.taskmanagement.domain.valueobject.TaskDeletion;
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
 import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,10 +16,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
@@ -80,4 +87,123 @@ public class JpaTaskRepositoryAdapterIntegrationTest {
         assertEquals(2, notDoneTasks.getContent().size());
         assertTrue(notDoneTasks.getContent().stream().allMatch(task -> task.getStatus() == TaskStatus.NOT_DONE));
     }
+
+    @Test
+    void findByStatus_WithCursor_ShouldWalkAllPagesInIdOrder() {
+        // Create tasks with mixed statuses
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Task task = new TaskImpl("Task " + i, LocalDateTime.now());
+            task.setStatus(i % 3 == 0 ? TaskStatus.DONE : TaskStatus.NOT_DONE);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        // Walk the NOT_DONE tasks two by two, starting with an empty cursor
+        List<Long> seenIds = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            IPage<Task> page = taskRepository.findByStatus(new PageableImpl(0, 2, cursor), TaskStatus.NOT_DONE);
+            page.getContent().forEach(task -> seenIds.add(task.getId()));
+            assertEquals(4, page.getTotalElements());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Verify that every NOT_DONE task was returned once and in ascending ID order
+        assertEquals(2, pages);
+        assertEquals(4, seenIds.size());
+        assertEquals(seenIds.stream().sorted().toList(), seenIds);
+
+        IPage<Task> lastPage = taskRepository.findAll(new PageableImpl(0, 10, ""));
+        assertEquals(7, lastPage.getContent().size());
+        assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    void findAll_WithoutTotal_ShouldOnlyAnswerHasNext() {
+        // Create three tasks
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Task task = new TaskImpl("Task " + i, LocalDateTime.now());
+            task.setStatus(TaskStatus.NOT_DONE);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        // Fetch the pages in slice mode
+        IPage<Task> firstPage = taskRepository.findAll(new PageableImpl(0, 2, null, false));
+        IPage<Task> secondPage = taskRepository.findByStatus(new PageableImpl(1, 2, null, false), TaskStatus.NOT_DONE);
+
+        // Verify that the total is not computed and only "has next" is answered
+        assertEquals(IPage.UNKNOWN_TOTAL, firstPage.getTotalElements());
+        assertEquals(2, firstPage.getContent().size());
+        assertTrue(firstPage.isHasNext());
+        assertEquals(1, secondPage.getContent().size());
+        assertFalse(secondPage.isHasNext());
+    }
+
+    @Test
+    void saveAll_ShouldPersistTasksAcrossSeveralBatches() {
+        // Create more tasks than fit in a single JDBC batch
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Task task = new TaskImpl("Task " + i, LocalDateTime.now());
+            task.setStatus(TaskStatus.NOT_DONE);
+            tasks.add(task);
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+
+        // Verify that every task got a distinct ID and was persisted
+        assertEquals(120, savedTasks.size());
+        savedTasks.forEach(task -> assertNotNull(task.getId()));
+        assertEquals(120, savedTasks.stream().map(Task::getId).distinct().count());
+        assertEquals(120, taskRepository.findAll(new PageableImpl(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void deleteAll_ShouldReturnTheNumberOfDeletedTasks() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Task task = new TaskImpl("Task " + i, LocalDateTime.now());
+            task.setStatus(TaskStatus.DONE);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        assertEquals(5, taskRepository.deleteAll());
+        assertEquals(0, taskRepository.findAll(new PageableImpl(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void deleteChunk_ShouldOnlyDeleteMatchingTasksWithAllowedStatuses() {
+        // Create tasks due yesterday and tomorrow, NOT_DONE and DONE
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Task task = new TaskImpl("Task " + i, now);
+            task.setStatus(i % 2 == 0 ? TaskStatus.NOT_DONE : TaskStatus.DONE);
+            task.setDueDateTime(i < 4 ? now.minusDays(1) : now.plusDays(1));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        // Delete the NOT_DONE tasks due before now, one at a time
+        TaskFilter filter = new TaskFilter(null, null, now);
+        EnumSet<TaskStatus> statuses = EnumSet.of(TaskStatus.NOT_DONE);
+        long deleted = 0;
+        TaskDeletion chunk = taskRepository.deleteChunk(filter, statuses, 1);
+        while (!chunk.isEmpty()) {
+            assertEquals(1, chunk.candidateIds().size());
+            deleted += chunk.deleted();
+            chunk = taskRepository.deleteChunk(filter, statuses, 1);
+        }
+
+        // Verify that only those two were deleted
+        assertEquals(2, deleted);
+        assertEquals(6, taskRepository.findAll(new PageableImpl(0, 10)).getTotalElements());
+        assertEquals(2, taskRepository.findByStatus(new PageableImpl(0, 10), TaskStatus.NOT_DONE).getTotalElements());
+    }
 }
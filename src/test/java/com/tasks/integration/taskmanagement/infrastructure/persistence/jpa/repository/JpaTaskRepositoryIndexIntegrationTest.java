@@ -0,0 +1,90 @@
+package com.tasks.integration.taskmanagement.infrastructure.persistence.jpa.repository;
+
+import com.tasks.taskmanagement.domain.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the H2 query plans of the hottest task queries, so they keep using the composite
+ * indexes created by the migrations instead of scanning the whole table.
+ */
+@SpringBootTest
+public class JpaTaskRepositoryIndexIntegrationTest {
+
+    private static final String STATUS_DUE_INDEX = "IDX_TASKS_STATUS_DUE_DATE_TIME";
+    private static final String STATUS_ID_INDEX = "IDX_TASKS_STATUS_ID";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        // Seed tasks spread over all statuses and due dates
+        String[] statuses = {"NOT_DONE", "DONE", "PAST_DUE"};
+        for (int i = 0; i < 300; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO tasks (description, creation_date_time, due_date_time, status) VALUES (?, ?, ?, ?)",
+                    "Task " + i,
+                    Timestamp.valueOf(LocalDateTime.now()),
+                    Timestamp.valueOf(LocalDateTime.now().plusMinutes(i - 150)),
+                    statuses[i % statuses.length]);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE tasks");
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void findByStatusAndDueDateTimeBefore_ShouldUseStatusDueDateTimeIndex() {
+        String plan = explain("SELECT * FROM tasks WHERE status = 'NOT_DONE' AND due_date_time < CURRENT_TIMESTAMP");
+
+        assertTrue(plan.contains(STATUS_DUE_INDEX), plan);
+        assertFalse(plan.contains("TABLESCAN"), plan);
+    }
+
+    @Test
+    void lockStates_ShouldUseAStatusIndex() {
+        String plan = explain("SELECT id, status, version FROM tasks WHERE status = 'NOT_DONE' "
+                + "AND due_date_time < CURRENT_TIMESTAMP AND id BETWEEN 1 AND 1000000 FOR UPDATE");
+
+        assertTrue(plan.contains(STATUS_ID_INDEX) || plan.contains(STATUS_DUE_INDEX), plan);
+        assertFalse(plan.contains("TABLESCAN"), plan);
+    }
+
+    @Test
+    void findByStatus_ShouldUseAStatusIndex() {
+        String plan = explain("SELECT * FROM tasks WHERE status = 'DONE' ORDER BY id LIMIT 10");
+
+        assertTrue(plan.contains(STATUS_ID_INDEX) || plan.contains(STATUS_DUE_INDEX), plan);
+        assertFalse(plan.contains("TABLESCAN"), plan);
+    }
+
+    @Test
+    void findByStatusAndIdGreaterThan_ShouldUseStatusIdIndex() {
+        String plan = explain("SELECT * FROM tasks WHERE status = 'DONE' AND id > 100 ORDER BY id LIMIT 10");
+
+        assertTrue(plan.contains(STATUS_ID_INDEX), plan);
+        assertFalse(plan.contains("TABLESCAN"), plan);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toUpperCase();
+    }
+}
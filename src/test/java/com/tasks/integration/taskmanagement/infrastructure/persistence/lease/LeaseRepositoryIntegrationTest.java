@@ -0,0 +1,55 @@
+package com.tasks.integration.taskmanagement.infrastructure.persistence.lease;
+
+import com.tasks.taskmanagement.infrastructure.persistence.lease.LeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class LeaseRepositoryIntegrationTest {
+
+    private static final String LEASE = "test-lease";
+
+    @Autowired
+    private LeaseRepository leaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM scheduler_leases WHERE name = ?", LEASE);
+    }
+
+    @Test
+    void tryAcquire_ShouldGrantTheLeaseToOneNodeAtATime() {
+        assertTrue(leaseRepository.tryAcquire(LEASE, "node-a", Duration.ofMinutes(1)));
+        assertFalse(leaseRepository.tryAcquire(LEASE, "node-b", Duration.ofMinutes(1)));
+        // The owner renews its lease
+        assertTrue(leaseRepository.tryAcquire(LEASE, "node-a", Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void tryAcquire_ShouldHandTheLeaseOver_OnceExpired() {
+        assertTrue(leaseRepository.tryAcquire(LEASE, "node-a", Duration.ofMinutes(-1)));
+
+        assertTrue(leaseRepository.tryAcquire(LEASE, "node-b", Duration.ofMinutes(1)));
+        assertFalse(leaseRepository.tryAcquire(LEASE, "node-a", Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void release_ShouldFreeTheLease() {
+        assertTrue(leaseRepository.tryAcquire(LEASE, "node-a", Duration.ofMinutes(1)));
+
+        leaseRepository.release(LEASE, "node-a");
+
+        assertTrue(leaseRepository.tryAcquire(LEASE, "node-b", Duration.ofMinutes(1)));
+    }
+}
@@ -0,0 +1,168 @@
+package com.tasks.integration.taskmanagement.infrastructure.persistence.outbox;
+
+import com.tasks.taskmanagement.application.spring.service.outbox.TaskOutboxRelay;
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.repository.TaskRepository;
+import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransition;
+import com.tasks.taskmanagement.infrastructure.persistence.outbox.TaskOutbox;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "tasks.outbox.sink=file",
+        "tasks.outbox.file=target/task-transitions-test.ndjson",
+        "tasks.outbox.poll-interval=PT1H"
+})
+public class TaskOutboxIntegrationTest {
+
+    private static final Path FILE = Path.of("target/task-transitions-test.ndjson");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskOutbox taskOutbox;
+
+    @Autowired
+    private TaskOutboxRelay relay;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        taskRepository.deleteAll();
+        relay.drain();
+        Files.deleteIfExists(FILE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        relay.drain();
+    }
+
+    @Test
+    void saveAndUpdate_ShouldRecordTheStatusTransitions() {
+        Task task = taskService.save(newTask(TaskStatus.NOT_DONE, LocalDateTime.now().plusDays(1)));
+        taskService.update(task.getId(), null, changed -> {
+            changed.setStatus(TaskStatus.DONE);
+            changed.setCompletionDateTime(LocalDateTime.now().minusMinutes(1));
+            return Set.of("status", "completionDateTime");
+        });
+
+        List<TaskTransition> transitions = taskOutbox.readBatch(100);
+
+        assertEquals(2, transitions.size());
+        assertTransition(transitions.get(0), task.getId(), null, TaskStatus.NOT_DONE);
+        assertTransition(transitions.get(1), task.getId(), TaskStatus.NOT_DONE, TaskStatus.DONE);
+    }
+
+    @Test
+    void bulkStatusUpdate_ShouldRecordATransitionPerUpdatedTask() {
+        // Saved through the repository, as the service rejects a NOT_DONE task already past due
+        Task expired = taskRepository.save(newTask(TaskStatus.NOT_DONE, LocalDateTime.now().minusHours(1)));
+        taskRepository.save(newTask(TaskStatus.NOT_DONE, LocalDateTime.now().plusHours(1)));
+
+        markPastDue();
+
+        List<TaskTransition> transitions = taskOutbox.readBatch(100);
+        assertEquals(1, transitions.size());
+        assertTransition(transitions.get(0), expired.getId(), TaskStatus.NOT_DONE, TaskStatus.PAST_DUE);
+    }
+
+    @Test
+    void bulkStatusUpdate_ShouldHoldOffAConcurrentChange_UntilItsTransitionsAreCommitted() throws Exception {
+        Task expired = taskRepository.save(newTask(TaskStatus.NOT_DONE, LocalDateTime.now().minusHours(1)));
+
+        CompletableFuture<?> concurrentChange = transactionTemplate.execute(status -> {
+            markPastDue();
+            CompletableFuture<?> change = CompletableFuture.runAsync(() -> taskService.update(expired.getId(), null, changed -> {
+                changed.setStatus(TaskStatus.DONE);
+                changed.setCompletionDateTime(LocalDateTime.now());
+                return Set.of("status", "completionDateTime");
+            }));
+            sleep(300);
+            assertFalse(change.isDone(), "The locked task was changed before the bulk update committed");
+            return change;
+        });
+        try {
+            concurrentChange.get(15, TimeUnit.SECONDS);
+        } catch (Exception ex) {
+            // The change may be rejected as stale once the lock is released
+        }
+
+        // Every transition starts from the status the previous one left the task in
+        List<TaskTransition> transitions = taskOutbox.readBatch(100);
+        assertTransition(transitions.get(0), expired.getId(), TaskStatus.NOT_DONE, TaskStatus.PAST_DUE);
+        for (int i = 1; i < transitions.size(); i++) {
+            assertEquals(transitions.get(i - 1).newStatus(), transitions.get(i).oldStatus());
+        }
+        assertEquals(transitions.get(transitions.size() - 1).newStatus(),
+                taskRepository.findById(expired.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void drain_ShouldDeliverTheTransitionsToTheSink_AndEmptyTheOutbox() throws IOException {
+        Task task = taskService.save(newTask(TaskStatus.NOT_DONE, LocalDateTime.now().plusDays(1)));
+
+        assertEquals(1, relay.drain());
+
+        List<String> lines = Files.readAllLines(FILE);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("\"taskId\":" + task.getId()), lines.get(0));
+        assertTrue(taskOutbox.readBatch(100).isEmpty());
+    }
+
+    private void markPastDue() {
+        LocalDateTime now = LocalDateTime.now();
+        taskService.updateStatusForDueDateTimeAndOldStatus(TaskStatus.NOT_DONE, TaskStatus.PAST_DUE, now,
+                taskService.findIdRangeByStatusAndDueDateTimeBefore(TaskStatus.NOT_DONE, now));
+    }
+
+    private Task newTask(TaskStatus status, LocalDateTime dueDateTime) {
+        Task task = taskService.newEntity();
+        task.setDescription("Outbox task");
+        task.setCreationDateTime(LocalDateTime.now());
+        task.setStatus(status);
+        task.setDueDateTime(dueDateTime);
+        return task;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(ex);
+        }
+    }
+
+    private static void assertTransition(TaskTransition transition, Long taskId, TaskStatus oldStatus, TaskStatus newStatus) {
+        assertEquals(taskId, transition.taskId());
+        assertEquals(oldStatus, transition.oldStatus());
+        assertEquals(newStatus, transition.newStatus());
+    }
+}
@@ -6,6 +6,7 @@ import com.tasks.taskmanagement.domain.entity.Task;
 import com.tasks.taskmanagement.domain.entity.TaskImpl;
 import com.tasks.taskmanagement.domain.repository.TaskRepository;
 import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.PageableImpl;
 import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
 import com.tasks.taskmanagement.presentation.dto.TaskDtoImpl;
 import org.junit.jupiter.api.AfterEach;
@@ -17,10 +18,21 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 public class TaskControllerTest {
@@ -105,10 +117,10 @@ public class TaskControllerTest {
         task.setDueDateTime(LocalDateTime.now().minusMinutes(1));
 
         // Save the task to the repository
-        taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
 
         // Fetch the task using REST API
-        ResponseEntity<TaskImpl> responseEntity = restTemplate.getForEntity("/api/tasks/1", TaskImpl.class);
+        ResponseEntity<TaskImpl> responseEntity = restTemplate.getForEntity("/api/tasks/" + savedTask.getId(), TaskImpl.class);
 
         // Ensure that the response status code is OK
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -180,4 +192,453 @@ public class TaskControllerTest {
         // Check that the retrieved task has the expected description
         assertEquals("Test Task", retrievedTask.getDescription());
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Tests the conditional delete of a task by its ID: a NOT_DONE task is deleted,
+     * a DONE task is rejected by the delete validators and a missing task is not found.
+     */
+    @Test
+    public void testDeleteTaskById() {
+        Task notDone = new TaskImpl("Not done", LocalDateTime.now());
+        notDone.setStatus(TaskStatus.NOT_DONE);
+        Task done = new TaskImpl("Done", LocalDateTime.now());
+        done.setStatus(TaskStatus.DONE);
+        done.setCompletionDateTime(LocalDateTime.now());
+        Long notDoneId = taskRepository.save(notDone).getId();
+        Long doneId = taskRepository.save(done).getId();
+
+        ResponseEntity<String> deleted = restTemplate.exchange("/api/tasks/" + notDoneId, HttpMethod.DELETE, null, String.class);
+        ResponseEntity<String> rejected = restTemplate.exchange("/api/tasks/" + doneId, HttpMethod.DELETE, null, String.class);
+        ResponseEntity<String> missing = restTemplate.exchange("/api/tasks/" + notDoneId, HttpMethod.DELETE, null, String.class);
+
+        assertEquals(HttpStatus.OK, deleted.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, rejected.getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, missing.getStatusCode());
+        assertTrue(taskRepository.findById(doneId).isPresent());
+    }
+
+    /**
+     * Tests keyset pagination: the first page is counted and returns a cursor,
+     * and the pages following the cursor are only counted when asked for.
+     */
+    @Test
+    public void testKeysetPagination() {
+        for (int i = 1; i <= 3; i++) {
+            Task task = new TaskImpl("Task " + i, LocalDateTime.now());
+            task.setStatus(TaskStatus.NOT_DONE);
+            taskRepository.save(task);
+        }
+
+        ResponseEntity<Map> first = restTemplate.getForEntity("/api/tasks?after=&size=2", Map.class);
+        String cursor = (String) first.getBody().get("nextCursor");
+        ResponseEntity<Map> next = restTemplate.getForEntity("/api/tasks?after=" + cursor + "&size=2", Map.class);
+        ResponseEntity<Map> counted = restTemplate.getForEntity("/api/tasks?after=" + cursor + "&size=2&withTotal=true", Map.class);
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(3, first.getBody().get("totalElements"));
+        assertNotNull(cursor);
+        assertEquals(HttpStatus.OK, next.getStatusCode());
+        assertEquals(1, ((List<?>) next.getBody().get("content")).size());
+        assertFalse(next.getBody().containsKey("totalElements"));
+        assertEquals(3, counted.getBody().get("totalElements"));
+    }
+
+    /**
+     * Tests that a page cursor or an If-Match header the API did not issue is rejected with 400.
+     */
+    @Test
+    public void testInvalidCursorAndIfMatch() {
+        Task task = new TaskImpl("Listed", LocalDateTime.now());
+        task.setStatus(TaskStatus.NOT_DONE);
+        Long taskId = taskRepository.save(task).getId();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch("\"not-a-version\"");
+
+        ResponseEntity<String> invalidCursor = restTemplate.getForEntity("/api/tasks?after=!!!", String.class);
+        ResponseEntity<String> invalidIfMatch = restTemplate.exchange("/api/tasks/" + taskId, HttpMethod.DELETE,
+                new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, invalidCursor.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, invalidIfMatch.getStatusCode());
+        assertTrue(taskRepository.findById(taskId).isPresent());
+    }
+
+    /**
+     * Tests optimistic concurrency: a PUT with the current ETag succeeds and returns a new ETag,
+     * and a PUT or DELETE with the previous ETag is rejected with 412.
+     */
+    @Test
+    public void testIfMatchOnPutAndDelete() {
+        Task task = new TaskImpl("Versioned", LocalDateTime.now());
+        task.setStatus(TaskStatus.NOT_DONE);
+        Long taskId = taskRepository.save(task).getId();
+
+        String etag = restTemplate.getForEntity("/api/tasks/" + taskId, TaskImpl.class).getHeaders().getETag();
+        assertNotNull(etag);
+
+        TaskDtoImpl update = new TaskDtoImpl();
+        update.setDescription("First editor");
+        update.setStatus(TaskStatus.NOT_DONE);
+        update.setCreationDateTime(LocalDateTime.now());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(etag);
+        ResponseEntity<String> updated = restTemplate.exchange("/api/tasks/" + taskId, HttpMethod.PUT,
+                new HttpEntity<>(update, headers), String.class);
+        assertEquals(HttpStatus.OK, updated.getStatusCode());
+        assertNotEquals(etag, updated.getHeaders().getETag());
+
+        update.setDescription("Second editor");
+        ResponseEntity<String> conflict = restTemplate.exchange("/api/tasks/" + taskId, HttpMethod.PUT,
+                new HttpEntity<>(update, headers), String.class);
+        ResponseEntity<String> deleteConflict = restTemplate.exchange("/api/tasks/" + taskId, HttpMethod.DELETE,
+                new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, conflict.getStatusCode());
+        assertEquals(HttpStatus.PRECONDITION_FAILED, deleteConflict.getStatusCode());
+        assertEquals("First editor", taskRepository.findById(taskId).orElseThrow().getDescription());
+    }
+
+    /**
+     * Tests that a weak If-Match never matches, even with the current version, as If-Match uses the strong comparison.
+     */
+    @Test
+    public void testWeakIfMatch() {
+        Task task = new TaskImpl("Versioned", LocalDateTime.now());
+        task.setStatus(TaskStatus.NOT_DONE);
+        Long taskId = taskRepository.save(task).getId();
+        String etag = restTemplate.getForEntity("/api/tasks/" + taskId, TaskImpl.class).getHeaders().getETag();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch("W/" + etag);
+
+        ResponseEntity<String> deleted = restTemplate.exchange("/api/tasks/" + taskId, HttpMethod.DELETE,
+                new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, deleted.getStatusCode());
+        assertTrue(taskRepository.findById(taskId).isPresent());
+    }
+
+    /**
+     * Tests that a PATCH with a stale If-Match is rejected with 412, while a PUT with an invalid body
+     * is rejected with 400 whatever its If-Match, as the request is validated before the version is checked.
+     */
+    @Test
+    public void testStaleIfMatchOnPatch_AndValidationFirst() throws Exception {
+        Task task = new TaskImpl("Versioned", LocalDateTime.now());
+        task.setStatus(TaskStatus.NOT_DONE);
+        Long taskId = taskRepository.save(task).getId();
+        String etag = restTemplate.getForEntity("/api/tasks/" + taskId, TaskImpl.class).getHeaders().getETag();
+        taskService.update(taskId, null, changed -> {
+            changed.setDescription("Changed meanwhile");
+            return Set.of("description");
+        });
+
+        HttpResponse<String> stalePatch = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/" + taskId))
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"description\":\"Stale editor\"}"))
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        TaskDtoImpl invalid = new TaskDtoImpl();
+        invalid.setStatus(TaskStatus.NOT_DONE);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(etag);
+        ResponseEntity<String> invalidPut = restTemplate.exchange("/api/tasks/" + taskId, HttpMethod.PUT,
+                new HttpEntity<>(invalid, headers), String.class);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED.value(), stalePatch.statusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, invalidPut.getStatusCode());
+        assertEquals("Changed meanwhile", taskRepository.findById(taskId).orElseThrow().getDescription());
+    }
+
+    /**
+     * Tests that a PUT or PATCH that changes nothing saves nothing: the version and the ETag stay the same.
+     */
+    @Test
+    public void testNoOpUpdateKeepsTheVersion() throws Exception {
+        LocalDateTime creation = LocalDateTime.of(2026, 1, 1, 10, 0);
+        LocalDateTime due = LocalDateTime.now().plusDays(1).withNano(0);
+        Task task = new TaskImpl("Unchanged", creation);
+        task.setStatus(TaskStatus.NOT_DONE);
+        task.setDueDateTime(due);
+        Long taskId = taskRepository.save(task).getId();
+        Long version = taskRepository.findById(taskId).orElseThrow().getVersion();
+        String etag = restTemplate.getForEntity("/api/tasks/" + taskId, TaskImpl.class).getHeaders().getETag();
+        assertNotNull(etag);
+
+        TaskDtoImpl same = new TaskDtoImpl();
+        same.setDescription("Unchanged");
+        same.setStatus(TaskStatus.NOT_DONE);
+        same.setCreationDateTime(creation);
+        same.setDueDateTime(due);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(etag);
+        ResponseEntity<String> put = restTemplate.exchange("/api/tasks/" + taskId, HttpMethod.PUT,
+                new HttpEntity<>(same, headers), String.class);
+
+        assertEquals(HttpStatus.OK, put.getStatusCode());
+        assertEquals(etag, put.getHeaders().getETag());
+
+        // The test client cannot send PATCH, so it goes through the JDK client
+        HttpResponse<String> patch = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/" + taskId))
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"description\":\"Unchanged\"}"))
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(HttpStatus.OK.value(), patch.statusCode());
+        assertEquals(etag, patch.headers().firstValue(HttpHeaders.ETAG).orElse(null));
+        assertEquals(version, taskRepository.findById(taskId).orElseThrow().getVersion());
+    }
+
+    /**
+     * Tests conditional GETs of a task and of a list page: polling with the received ETag
+     * gets an empty 304 until the tasks change.
+     */
+    @Test
+    public void testIfNoneMatchOnTaskAndList() {
+        Task task = new TaskImpl("Polled", LocalDateTime.now());
+        task.setStatus(TaskStatus.NOT_DONE);
+        Task saved = taskRepository.save(task);
+
+        ResponseEntity<String> first = restTemplate.getForEntity("/api/tasks/" + saved.getId(), String.class);
+        ResponseEntity<String> firstPage = restTemplate.getForEntity("/api/tasks?status=NOT_DONE", String.class);
+        assertNotNull(first.getBody());
+        assertNotNull(firstPage.getBody());
+
+        // Polling with the ETags costs no payload while nothing changes
+        ResponseEntity<String> poll = getIfNoneMatch("/api/tasks/" + saved.getId(), first.getHeaders().getETag());
+        ResponseEntity<String> pagePoll = getIfNoneMatch("/api/tasks?status=NOT_DONE", firstPage.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, poll.getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, pagePoll.getStatusCode());
+        assertNull(poll.getBody());
+        assertNull(pagePoll.getBody());
+
+        // A change to the tasks makes the ETags stale
+        Task changed = taskService.findById(saved.getId()).orElseThrow();
+        changed.setDescription("Changed");
+        taskService.save(changed);
+        assertEquals(HttpStatus.OK, getIfNoneMatch("/api/tasks/" + saved.getId(), first.getHeaders().getETag()).getStatusCode());
+        assertEquals(HttpStatus.OK, getIfNoneMatch("/api/tasks?status=NOT_DONE", firstPage.getHeaders().getETag()).getStatusCode());
+    }
+
+    /**
+     * Tests the export of the tasks: every task is a CSV row after the header, descriptions with commas
+     * are quoted, and the NDJSON export only holds the tasks of the requested status.
+     */
+    @Test
+    public void testExportTasks() {
+        for (int i = 0; i < 3; i++) {
+            Task task = new TaskImpl("Exported, " + i, LocalDateTime.now());
+            task.setStatus(TaskStatus.NOT_DONE);
+            taskRepository.save(task);
+        }
+        Task done = new TaskImpl("Done", LocalDateTime.now());
+        done.setStatus(TaskStatus.DONE);
+        done.setCompletionDateTime(LocalDateTime.now());
+        taskRepository.save(done);
+
+        ResponseEntity<String> csv = restTemplate.getForEntity("/api/tasks/export?format=csv", String.class);
+        ResponseEntity<String> ndjson = restTemplate.getForEntity("/api/tasks/export?status=NOT_DONE", String.class);
+        ResponseEntity<String> unsupported = restTemplate.getForEntity("/api/tasks/export?format=xml", String.class);
+
+        assertEquals(HttpStatus.OK, csv.getStatusCode());
+        assertNotNull(csv.getBody());
+        String[] rows = csv.getBody().split("\n");
+        assertEquals(5, rows.length);
+        assertTrue(rows[1].contains("\"Exported, 0\""));
+
+        assertEquals(HttpStatus.OK, ndjson.getStatusCode());
+        assertEquals(MediaType.parseMediaType("application/x-ndjson"), ndjson.getHeaders().getContentType());
+        assertNotNull(ndjson.getBody());
+        String[] lines = ndjson.getBody().split("\n");
+        assertEquals(3, lines.length);
+        for (String line : lines) {
+            assertTrue(line.contains("\"status\":\"NOT_DONE\""));
+        }
+
+        assertEquals(HttpStatus.BAD_REQUEST, unsupported.getStatusCode());
+    }
+
+    /**
+     * Tests the import of tasks: valid records are created whatever their ID, and malformed records or
+     * records failing validation are reported by line without stopping the import.
+     */
+    @Test
+    public void testImportTasks() {
+        String ndjson = String.join("\n",
+                "{\"id\":42,\"description\":\"Imported 1\",\"status\":\"NOT_DONE\"}",
+                "{\"description\":",
+                "",
+                "{\"description\":\"Imported 2\",\"status\":\"NOT_DONE\"}",
+                "{\"description\":\"Expired\",\"status\":\"NOT_DONE\",\"dueDateTime\":\"2000-01-01T00:00:00\"}",
+                "{\"status\":\"NOT_DONE\"}");
+        String csv = "description,status\n\"Imported, 3\",NOT_DONE\nUnknown,SOMEDAY\n";
+
+        ResponseEntity<Map> ndjsonReport = importTasks(ndjson, MediaType.parseMediaType("application/x-ndjson"));
+        ResponseEntity<Map> csvReport = importTasks(csv, MediaType.parseMediaType("text/csv"));
+
+        assertEquals(HttpStatus.OK, ndjsonReport.getStatusCode());
+        assertNotNull(ndjsonReport.getBody());
+        assertEquals(2, ndjsonReport.getBody().get("imported"));
+        assertEquals(3, ndjsonReport.getBody().get("rejected"));
+        List<?> errors = (List<?>) ndjsonReport.getBody().get("errors");
+        assertEquals(List.of(2, 5, 6), errors.stream().map(error -> (Integer) ((Map<?, ?>) error).get("line")).sorted().toList());
+
+        assertEquals(HttpStatus.OK, csvReport.getStatusCode());
+        assertNotNull(csvReport.getBody());
+        assertEquals(1, csvReport.getBody().get("imported"));
+        assertEquals(1, csvReport.getBody().get("rejected"));
+
+        List<String> descriptions = taskRepository.findAll(new PageableImpl(0, 10)).getContent().stream()
+                .map(Task::getDescription).sorted().toList();
+        assertEquals(List.of("Imported 1", "Imported 2", "Imported, 3"), descriptions);
+    }
+
+    /**
+     * Tests the import of malformed CSV records: a field over the length cap rejects its record only,
+     * and a quoted field left open at the end of the body rejects its record instead of swallowing the rest.
+     */
+    @Test
+    public void testImportMalformedCsv() {
+        String csv = "description,status\n"
+                + "\"Two\nlines\",NOT_DONE\n"
+                + "x".repeat(10_001) + ",NOT_DONE\n"
+                + "After,NOT_DONE\n"
+                + "\"Unterminated,NOT_DONE\n";
+
+        ResponseEntity<Map> report = importTasks(csv, MediaType.parseMediaType("text/csv"));
+
+        assertEquals(HttpStatus.OK, report.getStatusCode());
+        assertNotNull(report.getBody());
+        assertEquals(2, report.getBody().get("imported"));
+        assertEquals(2, report.getBody().get("rejected"));
+        List<?> errors = (List<?>) report.getBody().get("errors");
+        assertEquals(List.of(4, 6), errors.stream().map(error -> (Integer) ((Map<?, ?>) error).get("line")).sorted().toList());
+        List<String> descriptions = taskRepository.findAll(new PageableImpl(0, 10)).getContent().stream()
+                .map(Task::getDescription).sorted().toList();
+        assertEquals(List.of("After", "Two\nlines"), descriptions);
+    }
+
+    /**
+     * Tests the import of an NDJSON line over the length cap: it rejects its line only,
+     * and the import resumes at the next line.
+     */
+    @Test
+    public void testImportOversizedNdjsonLine() {
+        String ndjson = String.join("\r\n",
+                "{\"description\":\"Before\",\"status\":\"NOT_DONE\"}",
+                "{\"description\":\"" + "x".repeat(100_000) + "\",\"status\":\"NOT_DONE\"}",
+                "{\"description\":\"After\",\"status\":\"NOT_DONE\"}");
+
+        ResponseEntity<Map> report = importTasks(ndjson, MediaType.parseMediaType("application/x-ndjson"));
+
+        assertEquals(HttpStatus.OK, report.getStatusCode());
+        assertNotNull(report.getBody());
+        assertEquals(2, report.getBody().get("imported"));
+        assertEquals(1, report.getBody().get("rejected"));
+        List<?> errors = (List<?>) report.getBody().get("errors");
+        assertEquals(List.of(2), errors.stream().map(error -> (Integer) ((Map<?, ?>) error).get("line")).toList());
+        List<String> descriptions = taskRepository.findAll(new PageableImpl(0, 10)).getContent().stream()
+                .map(Task::getDescription).sorted().toList();
+        assertEquals(List.of("After", "Before"), descriptions);
+    }
+
+    /**
+     * Tests a batch of operations: an all-or-nothing batch with a rejected delete applies nothing,
+     * while the same best-effort batch applies the other operations and reports the rejected one.
+     */
+    @Test
+    public void testBatchOperations() {
+        Task notDone = new TaskImpl("Not done", LocalDateTime.now());
+        notDone.setStatus(TaskStatus.NOT_DONE);
+        Task done = new TaskImpl("Done", LocalDateTime.now());
+        done.setStatus(TaskStatus.DONE);
+        done.setCompletionDateTime(LocalDateTime.now());
+        Long notDoneId = taskRepository.save(notDone).getId();
+        Long doneId = taskRepository.save(done).getId();
+        List<Map<String, Object>> operations = List.of(
+                Map.of("op", "PATCH", "id", notDoneId, "task", Map.of("description", "Patched")),
+                Map.of("op", "DELETE", "id", doneId),
+                Map.of("op", "CREATE", "task", Map.of("description", "Created", "status", "NOT_DONE")));
+
+        ResponseEntity<List> atomic = restTemplate.postForEntity("/api/tasks/batch", operations, List.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, atomic.getStatusCode());
+        assertEquals(List.of("ABORTED", "REJECTED", "ABORTED"), outcomes(atomic.getBody()));
+        assertEquals("Not done", taskRepository.findById(notDoneId).orElseThrow().getDescription());
+
+        ResponseEntity<List> bestEffort = restTemplate.postForEntity("/api/tasks/batch?atomic=false", operations, List.class);
+
+        assertEquals(HttpStatus.OK, bestEffort.getStatusCode());
+        assertEquals(List.of("UPDATED", "REJECTED", "CREATED"), outcomes(bestEffort.getBody()));
+        assertEquals("Patched", taskRepository.findById(notDoneId).orElseThrow().getDescription());
+        assertTrue(taskRepository.findById(doneId).isPresent());
+        assertEquals(3, taskRepository.findAll(new PageableImpl(0, 10)).getContent().size());
+    }
+
+    /**
+     * Tests a bulk transition job: it moves the NOT_DONE tasks to DONE in the background and reports its progress,
+     * leaves the DONE task and its completion date-time alone, and rejects a target no task can be moved to.
+     */
+    @Test
+    public void testBulkStatusTransition() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            Task notDone = new TaskImpl("Not done " + i, LocalDateTime.now());
+            notDone.setStatus(TaskStatus.NOT_DONE);
+            taskRepository.save(notDone);
+        }
+        Task done = new TaskImpl("Done", LocalDateTime.now());
+        done.setStatus(TaskStatus.DONE);
+        done.setCompletionDateTime(LocalDateTime.now().minusDays(1));
+        Long doneId = taskRepository.save(done).getId();
+
+        ResponseEntity<Map> submitted = restTemplate.postForEntity(
+                "/api/tasks/transitions?targetStatus=DONE", null, Map.class);
+
+        assertEquals(HttpStatus.ACCEPTED, submitted.getStatusCode());
+        assertNotNull(submitted.getHeaders().getLocation());
+        assertEquals(3, ((Number) submitted.getBody().get("total")).intValue());
+
+        Map<?, ?> job = submitted.getBody();
+        for (int i = 0; i < 100 && !"SUCCEEDED".equals(job.get("state")) && !"FAILED".equals(job.get("state")); i++) {
+            Thread.sleep(100);
+            job = restTemplate.getForObject(submitted.getHeaders().getLocation().getPath(), Map.class);
+        }
+
+        assertEquals("SUCCEEDED", job.get("state"));
+        assertEquals(3, ((Number) job.get("updated")).intValue());
+        List<Task> tasks = taskRepository.findAll(new PageableImpl(0, 10)).getContent();
+        assertTrue(tasks.stream().allMatch(task -> task.getStatus() == TaskStatus.DONE));
+        assertTrue(tasks.stream().allMatch(task -> task.getCompletionDateTime() != null));
+        assertEquals(done.getCompletionDateTime().withNano(0),
+                taskRepository.findById(doneId).orElseThrow().getCompletionDateTime().withNano(0));
+
+        // No task can be moved back to NOT_DONE, and unknown jobs are not found
+        assertEquals(HttpStatus.BAD_REQUEST, restTemplate.postForEntity(
+                "/api/tasks/transitions?targetStatus=NOT_DONE", null, String.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity(
+                "/api/tasks/transitions/" + Long.MAX_VALUE, String.class).getStatusCode());
+    }
+
+    private static List<?> outcomes(List<?> results) {
+        assertNotNull(results);
+        return results.stream().map(result -> ((Map<?, ?>) result).get("outcome")).toList();
+    }
+
+    private ResponseEntity<Map> importTasks(String body, MediaType contentType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        return restTemplate.postForEntity("/api/tasks/import", new HttpEntity<>(body, headers), Map.class);
+    }
+
+    private ResponseEntity<String> getIfNoneMatch(String url, String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
@@ -0,0 +1,128 @@
+package com.tasks.integration.taskmanagement.presentation.controller;
+
+import com.tasks.taskmanagement.domain.repository.TaskRepository;
+import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.presentation.dto.TaskDtoImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class TaskStreamTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @BeforeEach
+    public void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @AfterEach
+    public void setAfterEach() {
+        taskRepository.deleteAll();
+    }
+
+    /**
+     * Tests that a subscriber to the NOT_DONE tasks is told about a created NOT_DONE task, but not about a DONE one.
+     */
+    @Test
+    public void testStreamOfSavedTasks() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<Stream<String>> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/stream?status=NOT_DONE"))
+                        .header("Accept", "text/event-stream")
+                        .build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertEquals(HttpStatus.OK.value(), response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+
+        CompletableFuture<List<String>> events = CompletableFuture.supplyAsync(() -> response.body()
+                .filter(line -> line.startsWith("data:"))
+                .limit(1)
+                .toList());
+
+        createTask("Done task", TaskStatus.DONE);
+        createTask("Streamed task", TaskStatus.NOT_DONE);
+
+        List<String> data = events.get(10, TimeUnit.SECONDS);
+        assertTrue(data.get(0).contains("\"type\":\"saved\""), data.get(0));
+        assertTrue(data.get(0).contains("\"status\":\"NOT_DONE\""), data.get(0));
+    }
+
+    /**
+     * Tests that a subscriber to the NOT_DONE tasks is told when a task leaves NOT_DONE, with the status it had.
+     */
+    @Test
+    public void testStreamOfTasksLeavingTheStatus() throws Exception {
+        CompletableFuture<List<String>> events = subscribe(TaskStatus.NOT_DONE, 2);
+
+        Long id = createTask("Streamed task", TaskStatus.NOT_DONE);
+        taskService.update(id, null, task -> {
+            task.setStatus(TaskStatus.DONE);
+            task.setCompletionDateTime(LocalDateTime.now().minusMinutes(1));
+            return Set.of("status", "completionDateTime");
+        });
+
+        List<String> data = events.get(10, TimeUnit.SECONDS);
+        assertTrue(data.get(1).contains("\"status\":\"DONE\""), data.get(1));
+        assertTrue(data.get(1).contains("\"oldStatus\":\"NOT_DONE\""), data.get(1));
+    }
+
+    private CompletableFuture<List<String>> subscribe(TaskStatus status, int limit) throws Exception {
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/stream?status=" + status))
+                        .header("Accept", "text/event-stream")
+                        .build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertEquals(HttpStatus.OK.value(), response.statusCode());
+        return CompletableFuture.supplyAsync(() -> response.body()
+                .filter(line -> line.startsWith("data:"))
+                .limit(limit)
+                .toList());
+    }
+
+    private Long createTask(String description, TaskStatus status) {
+        TaskDtoImpl taskDto = new TaskDtoImpl();
+        taskDto.setDescription(description);
+        taskDto.setStatus(status);
+        taskDto.setDueDateTime(LocalDateTime.now().plusDays(1));
+        if (status == TaskStatus.DONE) {
+            taskDto.setCompletionDateTime(LocalDateTime.now().minusMinutes(1));
+        }
+        ResponseEntity<TaskDtoImpl> response = restTemplate.postForEntity("/api/tasks", new HttpEntity<>(taskDto), TaskDtoImpl.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return response.getBody().getId();
+    }
+}
@@ -0,0 +1,149 @@
+package com.tasks.unit.taskmanagement.application.spring.service;
+
+import com.tasks.taskmanagement.application.spring.exception.TaskBatchValidationException;
+import com.tasks.taskmanagement.application.spring.exception.TaskValidationException;
+import com.tasks.taskmanagement.application.spring.exception.TaskVersionConflictException;
+import com.tasks.taskmanagement.application.spring.service.TaskServiceImpl;
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.entity.TaskImpl;
+import com.tasks.taskmanagement.domain.repository.TaskRepository;
+import com.tasks.taskmanagement.domain.strategy.StatusUpdateStrategy;
+import com.tasks.taskmanagement.domain.validator.TaskValidator;
+import com.tasks.taskmanagement.domain.valueobject.TaskRejection;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.infrastructure.persistence.outbox.TaskOutbox;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class TaskServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskValidator compositForDeleteTaskValidator;
+
+    @Mock
+    private TaskValidator compositNotDoneNotPassDue;
+
+    @Mock
+    private StatusUpdateStrategy statusUpdateStrategy;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskOutbox taskOutbox;
+
+    private TaskServiceImpl taskService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // Rejects the tasks whose description starts with "Invalid"
+        TaskValidator compositForSave = task -> {
+            if (task.getDescription().startsWith("Invalid")) {
+                throw new TaskValidationException("Invalid task");
+            }
+        };
+        taskService = new TaskServiceImpl(taskRepository, compositForDeleteTaskValidator, compositForSave,
+                compositNotDoneNotPassDue, statusUpdateStrategy, eventPublisher, taskOutbox, 1000, 4, 100);
+        when(taskRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskService.shutdown();
+    }
+
+    @Test
+    void saveAll_ShouldReportEveryRejectedTask_AndSaveNothing() {
+        List<Task> tasks = tasks(5000, 17, 4096);
+
+        TaskBatchValidationException ex = assertThrows(TaskBatchValidationException.class, () -> taskService.saveAll(tasks));
+
+        assertEquals(List.of(17, 4096), ex.getRejections().stream().map(TaskRejection::index).toList());
+        verify(taskRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveAllValid_ShouldSaveTheValidTasks_InTheirOrder() {
+        List<Task> tasks = tasks(50, 0, 49);
+
+        List<TaskRejection> rejections = taskService.saveAllValid(tasks);
+
+        ArgumentCaptor<List<Task>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).saveAll(saved.capture());
+        assertEquals(List.of(0, 49), rejections.stream().map(TaskRejection::index).toList());
+        assertEquals(tasks.subList(1, 49), saved.getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void update_ShouldRejectAStaleVersion_WithoutChangingTheTask() {
+        Task task = storedTask(2L, TaskStatus.NOT_DONE);
+        Function<Task, Set<String>> mutator = mock(Function.class);
+
+        assertThrows(TaskVersionConflictException.class, () -> taskService.update(1L, 1L, mutator));
+
+        verify(mutator, never()).apply(any());
+        verify(taskRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        assertEquals(TaskStatus.NOT_DONE, task.getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void update_ShouldValidateTheTask_BeforeCheckingItsVersion() {
+        Task task = storedTask(2L, TaskStatus.DONE);
+        doThrow(new TaskValidationException("Task is done")).when(compositNotDoneNotPassDue).validate(task);
+        Function<Task, Set<String>> mutator = mock(Function.class);
+
+        // A stale version of a task that can't be updated is reported as invalid, not as a conflict to retry
+        assertThrows(TaskValidationException.class, () -> taskService.update(1L, 1L, mutator));
+
+        verify(mutator, never()).apply(any());
+        verify(taskRepository, never()).save(any());
+    }
+
+    private Task storedTask(Long version, TaskStatus status) {
+        Task task = new TaskImpl("Stored", LocalDateTime.now());
+        task.setId(1L);
+        task.setVersion(version);
+        task.setStatus(status);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        return task;
+    }
+
+    private static List<Task> tasks(int count, int... invalid) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Task task = new TaskImpl("Task " + i, LocalDateTime.now());
+            task.setStatus(TaskStatus.NOT_DONE);
+            tasks.add(task);
+        }
+        for (int i : invalid) {
+            tasks.get(i).setDescription("Invalid " + i);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,82 @@
+package com.tasks.unit.taskmanagement.application.spring.service.lease;
+
+import com.tasks.taskmanagement.application.spring.service.lease.SchedulerLeaseImpl;
+import com.tasks.taskmanagement.infrastructure.persistence.lease.LeaseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class SchedulerLeaseImplTest {
+
+    @Mock
+    private LeaseRepository leaseRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void ownedGauge_ShouldDropToZero_WhenTheLeaseExpiresWithoutRenewal() throws InterruptedException {
+        SchedulerLeaseImpl lease = new SchedulerLeaseImpl(leaseRepository, meterRegistry,
+                Duration.ofMillis(100), Duration.ofMillis(10));
+        when(leaseRepository.tryAcquire(eq("job"), anyString(), any(Duration.class))).thenReturn(true);
+
+        assertTrue(lease.runExclusively("job", () -> { }));
+        assertEquals(1.0, owned("job"));
+
+        Thread.sleep(200);
+
+        assertEquals(0.0, owned("job"));
+    }
+
+    @Test
+    void renew_ShouldOnlyRenewTheLeasesOwnedByThisNode() {
+        SchedulerLeaseImpl lease = new SchedulerLeaseImpl(leaseRepository, meterRegistry,
+                Duration.ofSeconds(30), Duration.ofSeconds(10));
+        when(leaseRepository.tryAcquire(eq("owned"), anyString(), any(Duration.class))).thenReturn(true);
+        when(leaseRepository.tryAcquire(eq("other"), anyString(), any(Duration.class))).thenReturn(false);
+
+        assertTrue(lease.runExclusively("owned", () -> { }));
+        assertFalse(lease.runExclusively("other", () -> { }));
+        lease.renew();
+
+        verify(leaseRepository, times(2)).tryAcquire(eq("owned"), anyString(), any(Duration.class));
+        verify(leaseRepository, times(1)).tryAcquire(eq("other"), anyString(), any(Duration.class));
+        assertEquals(1.0, owned("owned"));
+        assertEquals(0.0, owned("other"));
+    }
+
+    @Test
+    void renew_ShouldClearTheGauge_WhenTheRenewalFails() {
+        SchedulerLeaseImpl lease = new SchedulerLeaseImpl(leaseRepository, meterRegistry,
+                Duration.ofSeconds(30), Duration.ofSeconds(10));
+        when(leaseRepository.tryAcquire(eq("job"), anyString(), any(Duration.class)))
+                .thenReturn(true)
+                .thenThrow(new IllegalStateException("Database down"));
+
+        lease.runExclusively("job", () -> { });
+        lease.renew();
+
+        assertEquals(0.0, owned("job"));
+    }
+
+    private double owned(String name) {
+        return meterRegistry.get("tasks.lease.owned").tag("lease", name).gauge().value();
+    }
+}
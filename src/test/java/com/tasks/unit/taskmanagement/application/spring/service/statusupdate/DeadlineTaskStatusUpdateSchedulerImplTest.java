@@ -0,0 +1,239 @@
+package com.tasks.unit.taskmanagement.application.spring.service.statusupdate;
+
+import com.tasks.taskmanagement.application.spring.service.lease.SchedulerLease;
+import com.tasks.taskmanagement.application.spring.service.statusupdate.DeadlineTaskStatusUpdateSchedulerImpl;
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.entity.TaskImpl;
+import com.tasks.taskmanagement.domain.event.TaskChangedEvent;
+import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.TaskDeadline;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DeadlineTaskStatusUpdateSchedulerImplTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private SchedulerLease schedulerLease;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private DeadlineTaskStatusUpdateSchedulerImpl scheduler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new DeadlineTaskStatusUpdateSchedulerImpl(taskService, schedulerLease, meterRegistry,
+                Duration.ofHours(1), 1000, Duration.ofMinutes(10));
+        holdLease(true);
+        when(taskService.updateStatusForDueDateTimeAndOldStatus(
+                eq(TaskStatus.NOT_DONE), eq(TaskStatus.PAST_DUE), any(LocalDateTime.class), anyCollection()))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(3)).size());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void start_ShouldLoadTheDeadlinesWithinTheHorizon() {
+        LocalDateTime now = LocalDateTime.now();
+        when(taskService.findDeadlinesByStatusAndDueDateTimeBefore(eq(TaskStatus.NOT_DONE), any(LocalDateTime.class)))
+                .thenReturn(List.of(new TaskDeadline(1L, now.plusMinutes(10)), new TaskDeadline(2L, now.plusMinutes(20))));
+
+        scheduler.start();
+
+        awaitTracked(2);
+        verify(taskService, timeout(1000)).findDeadlinesByStatusAndDueDateTimeBefore(
+                eq(TaskStatus.NOT_DONE), argThat(until -> until.isAfter(now.plusMinutes(59))));
+    }
+
+    @Test
+    void onTaskChanged_ShouldTrackTheSavedNotDoneTasks_AndUntrackTheOthers() {
+        startEmpty();
+        LocalDateTime now = LocalDateTime.now();
+
+        scheduler.onTaskChanged(TaskChangedEvent.saved(List.of(task(1L, TaskStatus.NOT_DONE, now.plusMinutes(10)))));
+        scheduler.onTaskChanged(TaskChangedEvent.saved(List.of(task(2L, TaskStatus.NOT_DONE, now.plusMinutes(20)))));
+        // Beyond the horizon, picked up by a later reload
+        scheduler.onTaskChanged(TaskChangedEvent.saved(List.of(task(3L, TaskStatus.NOT_DONE, now.plusHours(2)))));
+        assertEquals(2.0, tracked());
+
+        scheduler.onTaskChanged(TaskChangedEvent.saved(List.of(task(1L, TaskStatus.DONE, now.plusMinutes(10)))));
+        assertEquals(1.0, tracked());
+
+        scheduler.onTaskChanged(TaskChangedEvent.deleted(List.of(2L)));
+        assertEquals(0.0, tracked());
+    }
+
+    @Test
+    void expiredDeadline_ShouldMoveTheTaskToPastDue() {
+        startEmpty();
+
+        scheduler.onTaskChanged(TaskChangedEvent.saved(
+                List.of(task(1L, TaskStatus.NOT_DONE, LocalDateTime.now().plusNanos(200_000_000)))));
+
+        verify(taskService, timeout(2000)).updateStatusForDueDateTimeAndOldStatus(
+                eq(TaskStatus.NOT_DONE), eq(TaskStatus.PAST_DUE), any(LocalDateTime.class), eq(List.of(1L)));
+        awaitTracked(0);
+    }
+
+    @Test
+    void bulkStatusUpdate_ShouldReloadTheDeadlines_WhenTasksLeaveNotDone() {
+        LocalDateTime now = LocalDateTime.now();
+        when(taskService.findDeadlinesByStatusAndDueDateTimeBefore(eq(TaskStatus.NOT_DONE), any(LocalDateTime.class)))
+                .thenReturn(List.of(new TaskDeadline(1L, now.plusMinutes(10)), new TaskDeadline(2L, now.plusMinutes(20))))
+                .thenReturn(List.of(new TaskDeadline(2L, now.plusMinutes(20))));
+        scheduler.start();
+        awaitTracked(2);
+
+        // Its own PAST_DUE updates do not need a reload
+        scheduler.onTaskChanged(TaskChangedEvent.statusUpdated(TaskStatus.NOT_DONE, TaskStatus.PAST_DUE, now));
+        scheduler.onTaskChanged(TaskChangedEvent.statusUpdated(TaskStatus.NOT_DONE, TaskStatus.DONE, now));
+
+        awaitTracked(1);
+        verify(taskService, times(2)).findDeadlinesByStatusAndDueDateTimeBefore(
+                eq(TaskStatus.NOT_DONE), any(LocalDateTime.class));
+    }
+
+    @Test
+    void updateTaskStatuses_ShouldDropTheDeadlines_WhenAnotherNodeHoldsTheLease() {
+        when(taskService.findDeadlinesByStatusAndDueDateTimeBefore(eq(TaskStatus.NOT_DONE), any(LocalDateTime.class)))
+                .thenReturn(List.of(new TaskDeadline(1L, LocalDateTime.now().plusMinutes(10))));
+        scheduler.start();
+        awaitTracked(1);
+
+        holdLease(false);
+        scheduler.updateTaskStatuses();
+
+        assertEquals(0.0, tracked());
+        verify(taskService, never()).updateStatusForDueDateTimeAndOldStatus(
+                any(TaskStatus.class), any(TaskStatus.class), any(LocalDateTime.class), anyCollection());
+    }
+
+    @Test
+    void deadlineWrittenOnAnotherNode_ShouldBeTrackedByTheLeaseHolder_WithinTheRenewInterval() {
+        // The tasks table shared by the two nodes
+        List<TaskDeadline> database = new CopyOnWriteArrayList<>();
+        when(taskService.findDeadlinesByStatusAndDueDateTimeBefore(eq(TaskStatus.NOT_DONE), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> database.stream()
+                        .filter(deadline -> deadline.dueDateTime().isBefore(invocation.getArgument(1)))
+                        .toList());
+        when(taskService.updateStatusForDueDateTimeAndOldStatus(eq(TaskStatus.NOT_DONE), eq(TaskStatus.PAST_DUE),
+                any(LocalDateTime.class), anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<Long> ids = invocation.getArgument(3);
+                    database.removeIf(deadline -> ids.contains(deadline.id()));
+                    return ids.size();
+                });
+        DeadlineTaskStatusUpdateSchedulerImpl leaseHolder = new DeadlineTaskStatusUpdateSchedulerImpl(taskService,
+                schedulerLease, new SimpleMeterRegistry(), Duration.ofHours(1), 1000, Duration.ofMillis(100));
+        TaskService otherTaskService = mock(TaskService.class);
+        SchedulerLease otherLease = mock(SchedulerLease.class);
+        when(otherLease.runExclusively(anyString(), any(Runnable.class))).thenReturn(false);
+        DeadlineTaskStatusUpdateSchedulerImpl otherNode = new DeadlineTaskStatusUpdateSchedulerImpl(otherTaskService,
+                otherLease, new SimpleMeterRegistry(), Duration.ofHours(1), 1000, Duration.ofMillis(100));
+        try {
+            leaseHolder.start();
+            otherNode.start();
+            verify(taskService, timeout(1000)).findDeadlinesByStatusAndDueDateTimeBefore(
+                    eq(TaskStatus.NOT_DONE), any(LocalDateTime.class));
+
+            // A task due shortly is created on the node that does not hold the lease
+            Task task = task(1L, TaskStatus.NOT_DONE, LocalDateTime.now().plusNanos(300_000_000));
+            database.add(new TaskDeadline(task.getId(), task.getDueDateTime()));
+            otherNode.onTaskChanged(TaskChangedEvent.saved(List.of(task)));
+
+            verify(taskService, timeout(2000)).updateStatusForDueDateTimeAndOldStatus(
+                    eq(TaskStatus.NOT_DONE), eq(TaskStatus.PAST_DUE), any(LocalDateTime.class), eq(List.of(1L)));
+            verify(otherTaskService, never()).updateStatusForDueDateTimeAndOldStatus(
+                    any(TaskStatus.class), any(TaskStatus.class), any(LocalDateTime.class), anyCollection());
+        } finally {
+            leaseHolder.shutdown();
+            otherNode.shutdown();
+        }
+    }
+
+    private void startEmpty() {
+        when(taskService.findDeadlinesByStatusAndDueDateTimeBefore(eq(TaskStatus.NOT_DONE), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        scheduler.start();
+        verify(taskService, timeout(1000)).findDeadlinesByStatusAndDueDateTimeBefore(
+                eq(TaskStatus.NOT_DONE), any(LocalDateTime.class));
+        // The deadlines are tracked once the load completed
+        awaitLoaded();
+    }
+
+    private void holdLease(boolean held) {
+        when(schedulerLease.runExclusively(anyString(), any(Runnable.class))).thenAnswer(invocation -> {
+            if (held) {
+                ((Runnable) invocation.getArgument(1)).run();
+            }
+            return held;
+        });
+    }
+
+    private void awaitLoaded() {
+        LocalDateTime probeDue = LocalDateTime.now().plusMinutes(30);
+        long deadline = System.currentTimeMillis() + 2000;
+        while (System.currentTimeMillis() < deadline) {
+            scheduler.onTaskChanged(TaskChangedEvent.saved(List.of(task(-1L, TaskStatus.NOT_DONE, probeDue))));
+            if (tracked() == 1.0) {
+                scheduler.onTaskChanged(TaskChangedEvent.deleted(List.of(-1L)));
+                return;
+            }
+            sleep();
+        }
+        throw new AssertionError("The deadlines were not loaded");
+    }
+
+    private void awaitTracked(int expected) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (tracked() != expected && System.currentTimeMillis() < deadline) {
+            sleep();
+        }
+        assertEquals(expected, tracked());
+    }
+
+    private double tracked() {
+        return meterRegistry.get("tasks.deadlines.tracked").gauge().value();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(ex);
+        }
+    }
+
+    private static Task task(Long id, TaskStatus status, LocalDateTime dueDateTime) {
+        Task task = new TaskImpl("Task " + id, LocalDateTime.now());
+        task.setId(id);
+        task.setStatus(status);
+        task.setDueDateTime(dueDateTime);
+        return task;
+    }
+}
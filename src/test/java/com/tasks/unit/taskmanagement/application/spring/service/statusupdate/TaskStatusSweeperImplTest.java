@@ -0,0 +1,70 @@
+package com.tasks.unit.taskmanagement.application.spring.service.statusupdate;
+
+import com.tasks.taskmanagement.application.spring.service.statusupdate.TaskStatusSweeperImpl;
+import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.IdRange;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class TaskStatusSweeperImplTest {
+
+    @Mock
+    private TaskService taskService;
+
+    private TaskStatusSweeperImpl sweeper;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        sweeper = new TaskStatusSweeperImpl(taskService, new SimpleMeterRegistry(), 1000, 3, 100, 50000, 100);
+        // Every ID of a chunk is a matching task
+        when(taskService.updateStatusForDueDateTimeAndOldStatus(
+                eq(TaskStatus.NOT_DONE), eq(TaskStatus.PAST_DUE), any(LocalDateTime.class), any(IdRange.class)))
+                .thenAnswer(invocation -> {
+                    IdRange range = invocation.getArgument(3);
+                    return (int) (range.toId() - range.fromId() + 1);
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        sweeper.shutdown();
+    }
+
+    @Test
+    void sweep_ShouldCoverTheWholeIdRangeExactlyOnce() {
+        when(taskService.findIdRangeByStatusAndDueDateTimeBefore(eq(TaskStatus.NOT_DONE), any(LocalDateTime.class)))
+                .thenReturn(new IdRange(1L, 25_000L));
+
+        long updated = sweeper.sweep(TaskStatus.NOT_DONE, TaskStatus.PAST_DUE, LocalDateTime.now());
+
+        // Overlapping chunks would count IDs twice, missing chunks would count fewer
+        assertEquals(25_000L, updated);
+        verify(taskService, atLeast(2)).updateStatusForDueDateTimeAndOldStatus(
+                eq(TaskStatus.NOT_DONE), eq(TaskStatus.PAST_DUE), any(LocalDateTime.class), any(IdRange.class));
+    }
+
+    @Test
+    void sweep_ShouldNotUpdateAnything_WhenNoTaskIsPastDue() {
+        when(taskService.findIdRangeByStatusAndDueDateTimeBefore(eq(TaskStatus.NOT_DONE), any(LocalDateTime.class)))
+                .thenReturn(new IdRange(null, null));
+
+        long updated = sweeper.sweep(TaskStatus.NOT_DONE, TaskStatus.PAST_DUE, LocalDateTime.now());
+
+        assertEquals(0L, updated);
+        verify(taskService, never()).updateStatusForDueDateTimeAndOldStatus(
+                any(TaskStatus.class), any(TaskStatus.class), any(LocalDateTime.class), any(IdRange.class));
+    }
+}
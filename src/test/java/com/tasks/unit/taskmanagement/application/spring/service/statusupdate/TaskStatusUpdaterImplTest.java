@@ -1,5 +1,6 @@
 package com.tasks.unit.taskmanagement.application.spring.service.statusupdate;
 
+import com.tasks.taskmanagement.application.spring.service.statusupdate.TaskStatusSweeper;
 import com.tasks.taskmanagement.application.spring.service.statusupdate.TaskStatusUpdaterImpl;
 import com.tasks.taskmanagement.domain.entity.Task;
 import com.tasks.taskmanagement.domain.entity.TaskImpl;
@@ -36,10 +37,13 @@ public class TaskStatusUpdaterImplTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskStatusSweeper taskStatusSweeper;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.initMocks(this);
-        taskStatusUpdater = new TaskStatusUpdaterImpl(statusUpdateStrategy, taskService);
+        taskStatusUpdater = new TaskStatusUpdaterImpl(statusUpdateStrategy, taskStatusSweeper);
     }
 
     @Test
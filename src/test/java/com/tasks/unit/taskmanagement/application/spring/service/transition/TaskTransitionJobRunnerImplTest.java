@@ -0,0 +1,93 @@
+package com.tasks.unit.taskmanagement.application.spring.service.transition;
+
+import com.tasks.taskmanagement.application.spring.service.transition.TaskTransitionJobRunnerImpl;
+import com.tasks.taskmanagement.domain.service.TaskService;
+import com.tasks.taskmanagement.domain.valueobject.TaskFilter;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransitionChunk;
+import com.tasks.taskmanagement.domain.valueobject.TaskTransitionJob;
+import com.tasks.taskmanagement.infrastructure.persistence.job.TaskTransitionJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class TaskTransitionJobRunnerImplTest {
+
+    private static final TaskFilter FILTER = new TaskFilter(TaskStatus.NOT_DONE, null, null);
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TaskTransitionJobRepository jobRepository;
+
+    private TaskTransitionJobRunnerImpl runner;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        runner = new TaskTransitionJobRunnerImpl(taskService, jobRepository, new SimpleMeterRegistry(),
+                1, 10, 1, Duration.ofMinutes(1));
+        when(jobRepository.create(eq(FILTER), eq(TaskStatus.DONE), anyLong()))
+                .thenReturn(job(1L), job(2L));
+    }
+
+    @Test
+    void shutdown_ShouldFailTheQueuedJobs_AndTheInterruptedOne() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(taskService.transitionChunk(eq(FILTER), eq(TaskStatus.DONE), anyLong(), anyInt())).thenAnswer(invocation -> {
+            started.countDown();
+            Thread.sleep(10_000);
+            return new TaskTransitionChunk(List.of(), 0);
+        });
+        runner.submit(FILTER, TaskStatus.DONE);
+        runner.submit(FILTER, TaskStatus.DONE);
+        started.await();
+
+        runner.shutdown();
+
+        verify(jobRepository).finish(eq(2L), eq(TaskTransitionJob.State.FAILED), eq(0L), anyString());
+        verify(jobRepository, timeout(1000)).finish(eq(1L), eq(TaskTransitionJob.State.FAILED), anyLong(), anyString());
+        verify(jobRepository, never()).markRunning(2L);
+    }
+
+    @Test
+    void heartbeat_ShouldRefreshTheActiveJobs_AndFailTheStaleOnes() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskService.transitionChunk(eq(FILTER), eq(TaskStatus.DONE), anyLong(), anyInt())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new TaskTransitionChunk(List.of(), 0);
+        });
+        runner.submit(FILTER, TaskStatus.DONE);
+        started.await();
+
+        runner.heartbeat();
+
+        verify(jobRepository).touch(List.of(1L));
+        verify(jobRepository).failStale(eq(Duration.ofMinutes(1)), anyString());
+        release.countDown();
+        verify(jobRepository, timeout(1000)).finish(eq(1L), eq(TaskTransitionJob.State.SUCCEEDED), eq(0L), any());
+        runner.shutdown();
+    }
+
+    private static TaskTransitionJob job(Long id) {
+        return new TaskTransitionJob(id, FILTER, TaskStatus.DONE, TaskTransitionJob.State.QUEUED, 0, 0, null,
+                LocalDateTime.now(), null, null);
+    }
+}
@@ -0,0 +1,194 @@
+package com.tasks.unit.taskmanagement.infrastructure.cache;
+
+import com.tasks.taskmanagement.application.spring.service.changetracking.TaskChangeTrackerImpl;
+import com.tasks.taskmanagement.domain.entity.Task;
+import com.tasks.taskmanagement.domain.entity.TaskImpl;
+import com.tasks.taskmanagement.domain.valueobject.IPageable;
+import com.tasks.taskmanagement.domain.valueobject.PageImpl;
+import com.tasks.taskmanagement.domain.valueobject.PageableImpl;
+import com.tasks.taskmanagement.domain.valueobject.TaskStatus;
+import com.tasks.taskmanagement.infrastructure.cache.CachingTaskRepository;
+import com.tasks.taskmanagement.infrastructure.cache.TaskInvalidationLog;
+import com.tasks.taskmanagement.infrastructure.persistence.jpa.adapter.JpaTaskRepositoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class CachingTaskRepositoryTest {
+
+    @Mock
+    private JpaTaskRepositoryAdapter delegate;
+
+    @Mock
+    private TaskInvalidationLog invalidationLog;
+
+    private CachingTaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        repository = new CachingTaskRepository(delegate, invalidationLog, new TaskChangeTrackerImpl(), new SimpleMeterRegistry(), 100, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void findById_ShouldLoadOnce_AndReturnCopies() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(task(1L, TaskStatus.NOT_DONE, null)));
+
+        Task first = repository.findById(1L).orElseThrow();
+        first.setDescription("Changed by the caller");
+        Task second = repository.findById(1L).orElseThrow();
+
+        verify(delegate, times(1)).findById(1L);
+        assertNotSame(first, second);
+        assertEquals("Task 1", second.getDescription());
+    }
+
+    @Test
+    void findById_ShouldNotCacheMissingTasks() {
+        when(delegate.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(repository.findById(1L).isEmpty());
+        assertTrue(repository.findById(1L).isEmpty());
+
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void save_ShouldEvictTheSavedTask() {
+        Task task = task(1L, TaskStatus.NOT_DONE, null);
+        when(delegate.findById(1L)).thenReturn(Optional.of(task));
+        when(delegate.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        repository.findById(1L);
+        repository.save(task);
+        repository.findById(1L);
+
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void updateStatus_ShouldEvictOnlyTheUpdatedTasks_AndLogTheirStatuses() {
+        LocalDateTime now = LocalDateTime.now();
+        when(delegate.findById(1L)).thenReturn(Optional.of(task(1L, TaskStatus.NOT_DONE, now.minusHours(1))));
+        when(delegate.findById(2L)).thenReturn(Optional.of(task(2L, TaskStatus.NOT_DONE, now.minusHours(1))));
+        when(delegate.updateStatus(List.of(1L), Set.of(TaskStatus.NOT_DONE), TaskStatus.PAST_DUE, null)).thenReturn(1);
+        List.of(1L, 2L).forEach(repository::findById);
+
+        repository.updateStatus(List.of(1L), Set.of(TaskStatus.NOT_DONE), TaskStatus.PAST_DUE, null);
+        List.of(1L, 2L).forEach(repository::findById);
+
+        // Only task 1 was updated; task 2 is still served from the cache
+        verify(delegate, times(2)).findById(1L);
+        verify(delegate, times(1)).findById(2L);
+        verify(invalidationLog).append(List.of(), List.of(TaskStatus.NOT_DONE, TaskStatus.PAST_DUE));
+    }
+
+    @Test
+    void updateStatus_ShouldKeepTheCache_WhenNothingWasUpdated() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(task(1L, TaskStatus.DONE, null)));
+        when(delegate.updateStatus(List.of(1L), Set.of(TaskStatus.NOT_DONE), TaskStatus.PAST_DUE, null)).thenReturn(0);
+
+        repository.findById(1L);
+        repository.updateStatus(List.of(1L), Set.of(TaskStatus.NOT_DONE), TaskStatus.PAST_DUE, null);
+        repository.findById(1L);
+
+        verify(delegate, times(1)).findById(1L);
+        verify(invalidationLog, never()).append(anyCollection(), anyCollection());
+    }
+
+    @Test
+    void deleteAll_ShouldEvictEverything() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(task(1L, TaskStatus.DONE, null)));
+
+        repository.findById(1L);
+        repository.deleteAll();
+        repository.findById(1L);
+
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void findByStatus_ShouldLoadOnce_UntilATaskOfTheStatusIsSaved() {
+        when(delegate.findByStatus(any(IPageable.class), eq(TaskStatus.NOT_DONE)))
+                .thenReturn(new PageImpl<>(List.of(task(1L, TaskStatus.NOT_DONE, null)), 1, 0, 10));
+        when(delegate.save(any(Task.class))).thenAnswer(invocation -> {
+            Task saved = invocation.getArgument(0);
+            saved.setId(2L);
+            return saved;
+        });
+
+        repository.findByStatus(new PageableImpl(0, 10), TaskStatus.NOT_DONE);
+        repository.findByStatus(new PageableImpl(0, 10), TaskStatus.NOT_DONE);
+        repository.save(task(null, TaskStatus.NOT_DONE, null));
+        repository.findByStatus(new PageableImpl(0, 10), TaskStatus.NOT_DONE);
+
+        verify(delegate, times(2)).findByStatus(any(IPageable.class), eq(TaskStatus.NOT_DONE));
+    }
+
+    @Test
+    void findByStatus_ShouldKeepThePagesOfOtherStatuses() {
+        when(delegate.findByStatus(any(IPageable.class), eq(TaskStatus.DONE)))
+                .thenReturn(new PageImpl<>(List.of(task(1L, TaskStatus.DONE, null)), 1, 0, 10));
+        when(delegate.findAll(any(IPageable.class)))
+                .thenReturn(new PageImpl<>(List.of(task(1L, TaskStatus.DONE, null)), 1, 0, 10));
+        when(delegate.updateStatus(List.of(1L), Set.of(TaskStatus.NOT_DONE), TaskStatus.PAST_DUE, null)).thenReturn(1);
+
+        repository.findByStatus(new PageableImpl(0, 10), TaskStatus.DONE);
+        repository.findAll(new PageableImpl(0, 10));
+        repository.updateStatus(List.of(1L), Set.of(TaskStatus.NOT_DONE), TaskStatus.PAST_DUE, null);
+        repository.findByStatus(new PageableImpl(0, 10), TaskStatus.DONE);
+        repository.findAll(new PageableImpl(0, 10));
+
+        // The pages of all tasks include the updated statuses, the pages of done tasks do not
+        verify(delegate, times(1)).findByStatus(any(IPageable.class), eq(TaskStatus.DONE));
+        verify(delegate, times(2)).findAll(any(IPageable.class));
+    }
+
+    @Test
+    void save_ShouldAppendTheSavedTaskToTheInvalidationLog() {
+        Task task = task(1L, TaskStatus.DONE, null);
+        when(delegate.findById(1L)).thenReturn(Optional.of(task(1L, TaskStatus.NOT_DONE, null)));
+        when(delegate.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        repository.findById(1L);
+        repository.save(task);
+
+        verify(invalidationLog).append(List.of(1L), Set.of(TaskStatus.NOT_DONE, TaskStatus.DONE));
+    }
+
+    @Test
+    void invalidate_ShouldEvictTheTasksWrittenByAnotherNode() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(task(1L, TaskStatus.NOT_DONE, null)));
+        when(delegate.findById(2L)).thenReturn(Optional.of(task(2L, TaskStatus.DONE, null)));
+        List.of(1L, 2L).forEach(repository::findById);
+
+        repository.invalidate(null, Set.of(TaskStatus.NOT_DONE));
+        List.of(1L, 2L).forEach(repository::findById);
+
+        verify(delegate, times(2)).findById(1L);
+        verify(delegate, times(1)).findById(2L);
+    }
+
+    private static Task task(Long id, TaskStatus status, LocalDateTime dueDateTime) {
+        Task task = new TaskImpl("Task " + id, LocalDateTime.now());
+        task.setId(id);
+        task.setStatus(status);
+        task.setDueDateTime(dueDateTime);
+        return task;
+    }
+}
@@ -0,0 +1,143 @@
+package com.tasks.unit.taskmanagement.infrastructure.persistence.routing;
+
+import com.tasks.taskmanagement.infrastructure.persistence.routing.ReadWriteRoutingDataSource;
+import com.tasks.taskmanagement.infrastructure.persistence.routing.ReadYourWritesFilter;
+import com.tasks.taskmanagement.infrastructure.persistence.routing.ReadYourWritesSession;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesSession.unbind();
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldBeSpreadOverTheReplicas() {
+        DataSource dataSource = routingDataSource("spread", Duration.ZERO);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transactionTemplate(dataSource, true);
+
+        Set<String> databases = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            databases.add(readOnly.execute(status -> databaseName(jdbcTemplate)));
+        }
+
+        assertEquals(Set.of("spread-replica-0", "spread-replica-1"), databases);
+    }
+
+    @Test
+    void readWriteTransactions_ShouldGoToThePrimary() {
+        DataSource dataSource = routingDataSource("write", Duration.ZERO);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        String database = transactionTemplate(dataSource, false).execute(status -> databaseName(jdbcTemplate));
+
+        assertEquals("write-primary", database);
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldGoToThePrimary_WithinTheLagToleranceAfterAWrite() {
+        DataSource dataSource = routingDataSource("lag", Duration.ofMinutes(1));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transactionTemplate(dataSource, true);
+
+        String beforeWrite = readOnly.execute(status -> databaseName(jdbcTemplate));
+        transactionTemplate(dataSource, false).execute(status -> databaseName(jdbcTemplate));
+        String afterWrite = readOnly.execute(status -> databaseName(jdbcTemplate));
+
+        assertEquals("lag-replica-0", beforeWrite);
+        assertEquals("lag-primary", afterWrite);
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldStayOnTheReplicas_AfterARolledBackWrite() {
+        DataSource dataSource = routingDataSource("rollback", Duration.ofMinutes(1));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        transactionTemplate(dataSource, false).execute(status -> {
+            databaseName(jdbcTemplate);
+            status.setRollbackOnly();
+            return null;
+        });
+        String afterRollback = transactionTemplate(dataSource, true).execute(status -> databaseName(jdbcTemplate));
+
+        assertEquals("rollback-replica-0", afterRollback);
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldStayOnTheReplicas_AfterAWriteOfAnotherClient() {
+        DataSource dataSource = routingDataSource("other", Duration.ofMinutes(1));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        CompletableFuture.runAsync(() -> transactionTemplate(dataSource, false)
+                .execute(status -> databaseName(jdbcTemplate))).join();
+        String afterOtherWrite = transactionTemplate(dataSource, true).execute(status -> databaseName(jdbcTemplate));
+
+        assertEquals("other-replica-0", afterOtherWrite);
+    }
+
+    @Test
+    void readYourWritesFilter_ShouldKeepTheReadsOfTheWritingClientOnThePrimary_OnItsNextRequest() throws Exception {
+        DataSource dataSource = routingDataSource("client", Duration.ofMinutes(1));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+        AtomicReference<String> read = new AtomicReference<>();
+
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), writeResponse, (request, response) ->
+                transactionTemplate(dataSource, false).execute(status -> databaseName(jdbcTemplate)));
+        Cookie lastWrite = writeResponse.getCookie(ReadYourWritesFilter.COOKIE);
+        assertNotNull(lastWrite);
+
+        MockHttpServletRequest sameClient = new MockHttpServletRequest();
+        sameClient.setCookies(lastWrite);
+        filter.doFilter(sameClient, new MockHttpServletResponse(), (request, response) ->
+                read.set(transactionTemplate(dataSource, true).execute(status -> databaseName(jdbcTemplate))));
+        assertEquals("client-primary", read.get());
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) ->
+                read.set(transactionTemplate(dataSource, true).execute(status -> databaseName(jdbcTemplate))));
+        assertEquals("client-replica-0", read.get());
+    }
+
+    private static DataSource routingDataSource(String name, Duration lagTolerance) {
+        DataSource primary = h2(name + "-primary");
+        List<DataSource> replicas = List.of(h2(name + "-replica-0"), h2(name + "-replica-1"));
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replicas, lagTolerance));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static TransactionTemplate transactionTemplate(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    private static String databaseName(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class).toLowerCase();
+    }
+}